@@ -0,0 +1,113 @@
+package software.amazon.rekognition.benchmarks;
+
+import software.amazon.rekognition.benchmarks.ColdStartBenchmark.Action;
+import software.amazon.rekognition.benchmarks.ColdStartBenchmark.HandlerModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds an AppCDS (application class data sharing) archive for each shaded handler jar, next to the jar as
+ * {@code <jar name>.jsa}, so the JVM maps the parsed and verified AWS SDK, Jackson, log4j and handler classes
+ * instead of loading them from the jar on every cold start.
+ * <p>
+ * The training run starts the module's HandlerWrapper from its jar, like {@link ColdStartBenchmark}, and serves a
+ * create, read, update, list and delete request against the local Rekognition stub while the JVM records every
+ * class it loads. A second JVM then dumps the recorded classes that come from the jar or the JDK into the archive.
+ * Use it with {@code -XX:SharedArchiveFile=<archive>} on the same JDK build and the same, unchanged jar; the JVM
+ * ignores an archive that does not match, or refuses to start with {@code -Xshare:on}. Application classes can
+ * only be archived on JDK 11 and later.
+ * <p>
+ * Run it from the benchmarks module after building the handler jars, or through the {@code appcds} profile:
+ * {@code java -cp target/benchmarks.jar software.amazon.rekognition.benchmarks.AppCdsArchive
+ * [--modules collection,project] [--collection-jar path] [--project-jar path] [--jvm-args "..."]}.
+ */
+public final class AppCdsArchive {
+
+    /**
+     * Every handler, in an order that needs no stub setup between the requests.
+     */
+    private static final List<Action> TRAINING_ACTIONS =
+        Arrays.asList(Action.CREATE, Action.READ, Action.UPDATE, Action.LIST, Action.DELETE);
+
+    private AppCdsArchive() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (System.getProperty("java.specification.version").startsWith("1.")) {
+            throw new IllegalStateException("AppCDS archives of application classes need JDK 11 or later, this is "
+                + System.getProperty("java.version"));
+        }
+        final Map<String, String> options = ColdStartBenchmark.parseOptions(args);
+        final String jvmArgs = options.getOrDefault("jvm-args", ColdStartBenchmark.DEFAULT_JVM_ARGS);
+        final Path workDirectory = Files.createTempDirectory("appcds");
+        final Path probeClasspath = ColdStartBenchmark.extractProbe(workDirectory);
+
+        try (LocalRekognition stub = LocalRekognition.start(Duration.ZERO)) {
+            for (HandlerModule module : ColdStartBenchmark.selected(HandlerModule.class, options.get("modules"))) {
+                final Path jar = module.jar(options);
+                if (!Files.isRegularFile(jar)) {
+                    System.out.println(String.format("Skipping %s, %s does not exist", module.getTypeName(), jar));
+                    continue;
+                }
+                final String name = module.name().toLowerCase();
+                final Path classList = workDirectory.resolve(name + ".classlist");
+                final Path log = workDirectory.resolve(name + ".log");
+
+                stub.emulator().reset();
+                final List<Path> payloads = new ArrayList<>();
+                for (Action action : TRAINING_ACTIONS) {
+                    payloads.add(ColdStartBenchmark.writeRequest(
+                        workDirectory.resolve(name + "-" + action.name().toLowerCase() + ".json"), module, action));
+                }
+                final List<String> trainingArgs = ColdStartBenchmark.splitJvmArgs(jvmArgs);
+                trainingArgs.add("-Xshare:off");
+                trainingArgs.add("-XX:DumpLoadedClassList=" + classList);
+                run(ColdStartBenchmark.probeCommand(trainingArgs, module, jar, probeClasspath, stub, payloads), log);
+
+                // The archive is dumped for the jar alone; the probe class behind it at run time is not archived
+                final Path archive = archiveFor(jar);
+                final List<String> dump = new ArrayList<>();
+                dump.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+                dump.addAll(ColdStartBenchmark.splitJvmArgs(jvmArgs));
+                dump.add("-Xshare:dump");
+                dump.add("-XX:SharedClassListFile=" + classList);
+                dump.add("-XX:SharedArchiveFile=" + archive);
+                dump.add("-cp");
+                dump.add(jar.toString());
+                run(dump, log);
+
+                System.out.println(String.format("%s: %d class list entries, archive %s (%d KB)", module.getTypeName(),
+                    Files.readAllLines(classList).size(), archive, Files.size(archive) / 1024));
+            }
+        }
+    }
+
+    /**
+     * @return where the archive of a handler jar is written, and where {@link ColdStartBenchmark} looks for it
+     */
+    static Path archiveFor(final Path jar) {
+        final String jarName = jar.getFileName().toString();
+        final String baseName = jarName.endsWith(".jar") ? jarName.substring(0, jarName.length() - 4) : jarName;
+        return jar.resolveSibling(baseName + ".jsa");
+    }
+
+    private static void run(final List<String> command, final Path log) throws IOException, InterruptedException {
+        final Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.appendTo(log.toFile()))
+            .start();
+        final int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(String.format("%s failed with exit code %d, see %s",
+                String.join(" ", command), exitCode, log));
+        }
+    }
+}
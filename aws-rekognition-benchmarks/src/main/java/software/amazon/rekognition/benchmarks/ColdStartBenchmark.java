@@ -0,0 +1,549 @@
+package software.amazon.rekognition.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
+import software.amazon.rekognition.emulator.RekognitionEmulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cold-start baseline of every handler: each sample starts a fresh JVM with the shaded handler jar, loads the
+ * generated HandlerWrapper and serves one request against a local Rekognition stub (see {@link ColdStartProbe}).
+ * <p>
+ * For each module and action it prints the median of every phase and writes all samples, with medians and p90,
+ * to {@code cold-start-<yyyyMMdd-HHmmss>.json}:
+ * <ul>
+ *     <li>jvmStartMs: from process launch to the probe's main method</li>
+ *     <li>loadWrapperMs: loading and initialising the HandlerWrapper class, including LambdaWrapper's HTTP client</li>
+ *     <li>clientMs: building a Rekognition client the way the module's handlers do</li>
+ *     <li>initWrapperMs: constructing the HandlerWrapper and its handlers</li>
+ *     <li>firstCallMs: serving the request, from JSON in to the ProgressEvent JSON out</li>
+ *     <li>the classes loaded in each phase, all loaded classes and HotSpot's class loading time</li>
+ * </ul>
+ * Run it from the benchmarks module after building the handler jars:
+ * {@code java -cp target/benchmarks.jar software.amazon.rekognition.benchmarks.ColdStartBenchmark [--samples 10]
+ * [--latency-ms 5] [--modules collection,project] [--actions CREATE,READ,UPDATE,DELETE,LIST]
+ * [--collection-jar path] [--project-jar path] [--collection-slim-jar path] [--project-slim-jar path]
+ * [--jvm-args "..."] [--slim off|on|both] [--appcds off|on|both] [--prime off|on|both] [--output file]}.
+ * <p>
+ * When the {@code slim} profile has built a slim jar next to a handler jar, every handler and action is measured
+ * on both jars by default, the slim one as {@code +slim} rows. When {@link AppCdsArchive} has built an archive next to a handler jar, every handler and action is measured
+ * twice by default, once on the plain jar and once with the archive, as {@code +appcds} rows. Every handler and
+ * action is also measured with the handlers' init-phase priming and a primed connection, as {@code +prime} rows:
+ * priming moves time from firstCallMs to initWrapperMs.
+ */
+public final class ColdStartBenchmark {
+
+    /**
+     * Approximates the MemorySize 256 function of template.yml: a heap that fits in 256 MB, a single-threaded
+     * collector and one processor.
+     */
+    static final String DEFAULT_JVM_ARGS = "-Xmx200m -XX:+UseSerialGC -XX:ActiveProcessorCount=1";
+    private static final String[] SUMMARY_METRICS = {
+        "jvmStartMs", "loadWrapperMs", "clientMs", "initWrapperMs", "firstCallMs",
+        "loadedClasses", "classLoadingMs", "processMs"
+    };
+    private static final String[] ALL_METRICS = {
+        "jvmStartMs", "uptimeAtMainMs", "loadWrapperMs", "loadWrapperClasses", "clientMs", "clientClasses",
+        "initWrapperMs", "initWrapperClasses", "firstCallMs", "firstCallClasses", "loadedClasses", "classLoadingMs",
+        "processMs"
+    };
+    private static final List<String> PRIMING_JVM_ARGS =
+        Arrays.asList("-Drekognition.primeOnInit=true", "-Drekognition.primeConnection=true");
+    private static final String FIXTURE_NAME = "cold-start";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final DateTimeFormatter RESULT_FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    enum Action { CREATE, READ, UPDATE, DELETE, LIST }
+
+    enum HandlerModule {
+        COLLECTION("AWS::Rekognition::Collection", "CollectionId",
+            "software.amazon.rekognition.collection.HandlerWrapper",
+            "software.amazon.rekognition.collection.ClientBuilder#getClient",
+            "../aws-rekognition-collection/target/aws-rekognition-collection-handler-1.0-SNAPSHOT.jar") {
+            @Override
+            void createFixture(final RekognitionEmulator emulator, final Map<String, String> tags) {
+                emulator.createCollection(CreateCollectionRequest.builder()
+                    .collectionId(FIXTURE_NAME)
+                    .tags(tags)
+                    .build());
+            }
+        },
+        PROJECT("AWS::Rekognition::Project", "ProjectName",
+            "software.amazon.rekognition.project.HandlerWrapper",
+            "software.amazon.rekognition.project.ClientBuilder#getClient",
+            "../aws-rekognition-project/target/aws-rekognition-project-handler-1.0-SNAPSHOT.jar") {
+            @Override
+            void createFixture(final RekognitionEmulator emulator, final Map<String, String> tags) {
+                emulator.createProject(CreateProjectRequest.builder().projectName(FIXTURE_NAME).tags(tags).build());
+            }
+        };
+
+        private final String typeName;
+        private final String identifierProperty;
+        private final String wrapperClass;
+        private final String clientFactory;
+        private final String defaultJar;
+
+        HandlerModule(final String typeName,
+                      final String identifierProperty,
+                      final String wrapperClass,
+                      final String clientFactory,
+                      final String defaultJar) {
+            this.typeName = typeName;
+            this.identifierProperty = identifierProperty;
+            this.wrapperClass = wrapperClass;
+            this.clientFactory = clientFactory;
+            this.defaultJar = defaultJar;
+        }
+
+        abstract void createFixture(RekognitionEmulator emulator, Map<String, String> tags);
+
+        String getTypeName() {
+            return typeName;
+        }
+
+        /**
+         * @return the custom runtime main class of the module, built into its native image
+         */
+        String runtimeClass() {
+            return wrapperClass.replace(".HandlerWrapper", ".LambdaRuntime");
+        }
+
+        /**
+         * @param options the command line options, where {@code --<module>-jar} overrides the default location
+         * @return the absolute path of the shaded handler jar, which class data sharing matches at run time
+         */
+        Path jar(final Map<String, String> options) {
+            return Paths.get(options.getOrDefault(name().toLowerCase() + "-jar", defaultJar))
+                .toAbsolutePath()
+                .normalize();
+        }
+
+        /**
+         * @param options the command line options, where {@code --<module>-slim-jar} overrides the default location
+         * @return the absolute path of the jar built by the module's {@code slim} profile
+         */
+        Path slimJar(final Map<String, String> options) {
+            return Paths.get(options.getOrDefault(name().toLowerCase() + "-slim-jar",
+                defaultJar.replace(".jar", "-slim.jar")))
+                .toAbsolutePath()
+                .normalize();
+        }
+
+        /**
+         * @param options the command line options, where {@code --<module>-native} overrides the default location
+         * @return the native image built by the module's {@code native} profile
+         */
+        Path nativeImage(final Map<String, String> options) {
+            return Paths.get(options.getOrDefault(name().toLowerCase() + "-native",
+                Paths.get(defaultJar).resolveSibling("bootstrap").toString()))
+                .toAbsolutePath()
+                .normalize();
+        }
+    }
+
+    /**
+     * One way of starting a handler: a jar, with or without an AppCDS archive and init-phase priming.
+     */
+    private static final class Variant {
+
+        private final Path jar;
+        private final boolean slim;
+        private final Path archive;
+        private final boolean primed;
+
+        Variant(final Path jar, final boolean slim, final Path archive, final boolean primed) {
+            this.jar = jar;
+            this.slim = slim;
+            this.archive = archive;
+            this.primed = primed;
+        }
+
+        String suffix() {
+            return (slim ? " +slim" : "") + (archive == null ? "" : " +appcds") + (primed ? " +prime" : "");
+        }
+
+        List<String> jvmArgs(final String jvmArgs) {
+            final List<String> args = splitJvmArgs(jvmArgs);
+            if (archive != null) {
+                args.add("-XX:SharedArchiveFile=" + archive);
+                // Fail the sample instead of silently running without an archive that no longer matches
+                args.add("-Xshare:on");
+            }
+            if (primed) {
+                args.addAll(PRIMING_JVM_ARGS);
+            }
+            return args;
+        }
+    }
+
+    private ColdStartBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final int samples = Integer.parseInt(options.getOrDefault("samples", "10"));
+        final int latencyMillis = Integer.parseInt(options.getOrDefault("latency-ms", "5"));
+        final String jvmArgs = options.getOrDefault("jvm-args", DEFAULT_JVM_ARGS);
+        final String appCds = options.getOrDefault("appcds", "both");
+        final String prime = options.getOrDefault("prime", "both");
+        final String slim = options.getOrDefault("slim", "both");
+        final String output = options.getOrDefault("output",
+            String.format("cold-start-%s.json", LocalDateTime.now().format(RESULT_FILE_TIMESTAMP)));
+
+        final Path workDirectory = Files.createTempDirectory("cold-start");
+        final Path probeClasspath = extractProbe(workDirectory);
+
+        final ObjectNode report = MAPPER.createObjectNode()
+            .put("samples", samples)
+            .put("stubLatencyMillis", latencyMillis)
+            .put("jvmArgs", jvmArgs)
+            .put("javaVersion", System.getProperty("java.version"));
+        final ArrayNode results = report.putArray("results");
+
+        System.out.println(String.format("%-40s %8s %8s %8s %8s %8s %8s %8s %8s  (medians of %d samples)",
+            "Handler", "jvm ms", "load ms", "client", "init ms", "call ms", "classes", "cl ms", "total", samples));
+
+        try (LocalRekognition stub = LocalRekognition.start(Duration.ofMillis(latencyMillis))) {
+            for (HandlerModule module : selected(HandlerModule.class, options.get("modules"))) {
+                final List<Variant> variants = variants(module, options, slim, appCds, prime);
+                if (variants.isEmpty()) {
+                    System.out.println(String.format("Skipping %s, %s does not exist", module.typeName,
+                        module.jar(options)));
+                    continue;
+                }
+                for (Action action : selected(Action.class, options.get("actions"))) {
+                    for (Variant variant : variants) {
+                        final String name = module.name().toLowerCase() + " " + action.name().toLowerCase()
+                            + variant.suffix();
+                        final List<String> sampleJvmArgs = variant.jvmArgs(jvmArgs);
+                        final List<Map<String, Double>> runs = new ArrayList<>();
+                        final ObjectNode result = results.addObject()
+                            .put("module", module.typeName)
+                            .put("action", action.name())
+                            .put("jar", variant.jar.toString())
+                            .put("jarBytes", Files.size(variant.jar))
+                            .put("appCdsArchive", variant.archive == null ? null : variant.archive.toString())
+                            .put("prime", variant.primed);
+                        final ArrayNode sampleNodes = result.putArray("samples");
+                        for (int sample = 0; sample < samples; sample++) {
+                            prepareStub(stub.emulator(), module, action);
+                            final long requestCount = stub.emulator().getRequestCount();
+                            final Path payload = writeRequest(workDirectory.resolve("request.json"), module, action);
+                            final List<String> command = probeCommand(sampleJvmArgs, module, variant.jar,
+                                probeClasspath, stub, Collections.singletonList(payload));
+                            final Map<String, Double> run = runSample(module, command, workDirectory, sampleNodes);
+                            if (run != null) {
+                                verifyStubCalled(stub, requestCount, module, variant.jar);
+                                runs.add(run);
+                            }
+                        }
+                        summarize(name, runs, result);
+                    }
+                }
+            }
+        }
+
+        MAPPER.writeValue(new File(output), report);
+        System.out.println("Results written to " + output);
+    }
+
+    /**
+     * The ways of starting a module's handlers that exist and that the options ask for: its full and slim jar
+     * ({@code --slim}), each without and with its AppCDS archive ({@code --appcds}), each without and with
+     * init-phase priming ({@code --prime}).
+     */
+    private static List<Variant> variants(final HandlerModule module,
+                                          final Map<String, String> options,
+                                          final String slim,
+                                          final String appCds,
+                                          final String prime) {
+        final List<Path> jars = new ArrayList<>();
+        if (!"on".equals(slim) && Files.isRegularFile(module.jar(options))) {
+            jars.add(module.jar(options));
+        }
+        if (!"off".equals(slim) && Files.isRegularFile(module.slimJar(options))) {
+            jars.add(module.slimJar(options));
+        }
+        final List<Variant> variants = new ArrayList<>();
+        for (Path jar : jars) {
+            final boolean slimJar = jar.equals(module.slimJar(options));
+            final Path archive = AppCdsArchive.archiveFor(jar);
+            final List<Path> archives = new ArrayList<>();
+            if (!"on".equals(appCds) || !Files.isRegularFile(archive)) {
+                archives.add(null);
+            }
+            if (!"off".equals(appCds) && Files.isRegularFile(archive)) {
+                archives.add(archive);
+            }
+            for (Path jarArchive : archives) {
+                if (!"on".equals(prime)) {
+                    variants.add(new Variant(jar, slimJar, jarArchive, false));
+                }
+                if (!"off".equals(prime)) {
+                    variants.add(new Variant(jar, slimJar, jarArchive, true));
+                }
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * The command line of a probe JVM that runs the module's HandlerWrapper from its jar against the stub.
+     *
+     * @param payloads the request measured by the probe, followed by any requests it only serves
+     */
+    static List<String> probeCommand(final List<String> jvmArgs,
+                                     final HandlerModule module,
+                                     final Path jar,
+                                     final Path probeClasspath,
+                                     final LocalRekognition stub,
+                                     final List<Path> payloads) {
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        if (!System.getProperty("java.specification.version").startsWith("1.")) {
+            command.add("--add-exports=java.management/sun.management=ALL-UNNAMED");
+        }
+        command.add("-Daws.region=" + LocalRekognition.REGION);
+        command.add("-Daws.endpointUrlRekognition=" + stub.endpoint());
+        // The handler jar comes first, so that an AppCDS archive dumped for the jar alone matches this class path
+        command.add("-cp");
+        command.add(jar + File.pathSeparator + probeClasspath);
+        command.add(ColdStartProbe.class.getName());
+        command.add(module.wrapperClass);
+        command.add(module.clientFactory);
+        for (Path payload : payloads) {
+            command.add(payload.toString());
+        }
+        return command;
+    }
+
+    private static Map<String, Double> runSample(final HandlerModule module,
+                                                 final List<String> command,
+                                                 final Path workDirectory,
+                                                 final ArrayNode sampleNodes) throws IOException, InterruptedException {
+        final Path log = workDirectory.resolve("probe.log");
+        final long launchEpochMillis = System.currentTimeMillis();
+        final long launchNanos = System.nanoTime();
+        final Process process = new ProcessBuilder(command)
+            .redirectError(log.toFile())
+            .start();
+        final String resultLine = readResultLine(process.getInputStream());
+        final int exitCode = process.waitFor();
+        final double processMillis = (System.nanoTime() - launchNanos) / 1_000_000.0;
+
+        final ObjectNode sampleNode = sampleNodes.addObject();
+        if (exitCode != 0 || resultLine == null) {
+            final String failure = String.format("exit code %d, see %s", exitCode, log);
+            sampleNode.put("error", failure);
+            System.out.println(String.format("  %s sample failed: %s", module.typeName, failure));
+            return null;
+        }
+
+        final Map<String, String> fields = new LinkedHashMap<>();
+        for (String field : resultLine.substring(ColdStartProbe.RESULT_PREFIX.length()).split(" ")) {
+            final int equals = field.indexOf('=');
+            fields.put(field.substring(0, equals), field.substring(equals + 1));
+        }
+        final Map<String, Double> run = new LinkedHashMap<>();
+        run.put("jvmStartMs", (double) (Long.parseLong(fields.get("mainEpochMillis")) - launchEpochMillis));
+        for (String metric : ALL_METRICS) {
+            if (fields.containsKey(metric)) {
+                run.put(metric, Double.parseDouble(fields.get(metric)));
+            }
+        }
+        run.put("processMs", processMillis);
+        for (Map.Entry<String, Double> metric : run.entrySet()) {
+            sampleNode.put(metric.getKey(), metric.getValue());
+        }
+        sampleNode.put("status", fields.get("status"));
+        return run;
+    }
+
+    /**
+     * The probe JVM points its clients at the stub only through the SDK's endpoint system property, so a sample
+     * that did not reach the stub ran against real AWS endpoints and must not be reported.
+     *
+     * @throws IllegalStateException if the stub received no call since {@code requestCount}
+     */
+    private static void verifyStubCalled(final LocalRekognition stub,
+                                         final long requestCount,
+                                         final HandlerModule module,
+                                         final Path jar) {
+        if (stub.emulator().getRequestCount() == requestCount) {
+            throw new IllegalStateException(String.format("The %s handler in %s did not call the local stub at %s,"
+                + " the AWS SDK in the jar must support aws.endpointUrlRekognition", module.typeName, jar,
+                stub.endpoint()));
+        }
+    }
+
+    private static void summarize(final String name, final List<Map<String, Double>> runs, final ObjectNode result) {
+        final ObjectNode medians = result.putObject("p50");
+        final ObjectNode p90s = result.putObject("p90");
+        final StringBuilder line = new StringBuilder(String.format("%-40s", name));
+        for (String metric : SUMMARY_METRICS) {
+            final double[] values = runs.stream()
+                .filter(run -> run.containsKey(metric))
+                .mapToDouble(run -> run.get(metric))
+                .sorted()
+                .toArray();
+            final double median = percentile(values, 50);
+            medians.put(metric, median);
+            p90s.put(metric, percentile(values, 90));
+            line.append(String.format(" %8.1f", median));
+        }
+        System.out.println(line);
+    }
+
+    static double percentile(final double[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * Puts the stub in the state the action expects: the resource exists for read, update, delete and list, and
+     * does not exist yet for create.
+     */
+    static void prepareStub(final RekognitionEmulator emulator, final HandlerModule module, final Action action) {
+        emulator.reset();
+        if (action != Action.CREATE) {
+            module.createFixture(emulator, Collections.singletonMap("stage", "a"));
+        }
+    }
+
+    /**
+     * The handler request CloudFormation sends to the wrapper, with the resource properties and, for update, the
+     * previous properties that differ in one tag.
+     */
+    static byte[] requestJson(final HandlerModule module, final Action action) throws IOException {
+        return MAPPER.writeValueAsBytes(request(module, action));
+    }
+
+    static Path writeRequest(final Path file, final HandlerModule module, final Action action) throws IOException {
+        Files.write(file, requestJson(module, action));
+        return file;
+    }
+
+    private static ObjectNode request(final HandlerModule module, final Action action) {
+        final ObjectNode request = MAPPER.createObjectNode()
+            .put("awsAccountId", ACCOUNT_ID)
+            .put("bearerToken", UUID.randomUUID().toString())
+            .put("region", LocalRekognition.REGION)
+            .put("action", action.name())
+            .put("responseEndpoint", "https://cloudformation." + LocalRekognition.REGION + ".amazonaws.com")
+            .put("resourceType", module.typeName)
+            .put("resourceTypeVersion", "00000001")
+            .put("stackId", String.format("arn:aws:cloudformation:%s:%s:stack/cold-start/%s",
+                LocalRekognition.REGION, ACCOUNT_ID, UUID.randomUUID()));
+        request.putNull("callbackContext");
+
+        final ObjectNode requestData = request.putObject("requestData");
+        requestData.putObject("callerCredentials")
+            .put("accessKeyId", "akid")
+            .put("secretAccessKey", "secret")
+            .put("sessionToken", "token");
+        requestData.put("logicalResourceId", "ColdStart");
+        if (action == Action.LIST) {
+            requestData.putObject("resourceProperties");
+        } else {
+            requestData.set("resourceProperties", properties(module, "b"));
+        }
+        if (action == Action.UPDATE) {
+            requestData.set("previousResourceProperties", properties(module, "a"));
+        }
+        return request;
+    }
+
+    private static ObjectNode properties(final HandlerModule module, final String stage) {
+        final ObjectNode properties = MAPPER.createObjectNode().put(module.identifierProperty, FIXTURE_NAME);
+        properties.putArray("Tags").addObject()
+            .put("Key", "stage")
+            .put("Value", stage);
+        return properties;
+    }
+
+    /**
+     * Copies the probe class out of this jar, so the sample JVM gets it without JMH, the emulator or the other
+     * module's SDK on its class path.
+     */
+    static Path extractProbe(final Path workDirectory) throws IOException {
+        final String resource = ColdStartProbe.class.getName().replace('.', '/') + ".class";
+        final Path classes = workDirectory.resolve("probe");
+        final Path target = classes.resolve(resource);
+        Files.createDirectories(target.getParent());
+        try (InputStream in = ColdStartProbe.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Cannot find " + resource);
+            }
+            Files.copy(in, target);
+        }
+        return classes;
+    }
+
+    private static String readResultLine(final InputStream stdout) throws IOException {
+        String resultLine = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stdout, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ColdStartProbe.RESULT_PREFIX)) {
+                    resultLine = line;
+                }
+            }
+        }
+        return resultLine;
+    }
+
+    static List<String> splitJvmArgs(final String jvmArgs) {
+        return new ArrayList<>(Arrays.asList(jvmArgs.trim().split("\\s+")));
+    }
+
+    static <E extends Enum<E>> List<E> selected(final Class<E> type, final String names) {
+        if (names == null) {
+            return Arrays.asList(type.getEnumConstants());
+        }
+        final List<E> values = new ArrayList<>();
+        for (String name : names.split(",")) {
+            values.add(Enum.valueOf(type, name.trim().toUpperCase()));
+        }
+        return values;
+    }
+
+    static Map<String, String> parseOptions(final String[] args) {
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,157 @@
+package software.amazon.rekognition.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The main class of one cold-start sample, started by {@link ColdStartBenchmark} in a fresh JVM whose class path is
+ * only the shaded handler jar and this class.
+ * <p>
+ * It goes through the phases of a Lambda cold start one at a time: load the generated HandlerWrapper class, build a
+ * Rekognition client the way the handlers do, construct the wrapper, and serve one request through
+ * {@code HandlerWrapper.handleRequest}. For each phase it measures the wall time and the number of classes loaded,
+ * and prints them as one {@code COLD_START key=value ...} line on stdout. The handler jar is only used through
+ * reflection and JDK proxies, so this class loads nothing of its own beyond the JDK.
+ * <p>
+ * Any further request files are served after the measurements, by the same wrapper. {@link AppCdsArchive} uses
+ * them to load the classes of every handler while it records the class list of a training run.
+ */
+public final class ColdStartProbe implements InvocationHandler {
+
+    static final String RESULT_PREFIX = "COLD_START ";
+    private static final long REMAINING_TIME_MILLIS = 15 * 60 * 1000;
+    private static final Pattern STATUS = Pattern.compile("\"status\"\\s*:\\s*\"([A-Z_]+)\"");
+
+    private final ClassLoader classLoader;
+
+    private ColdStartProbe(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @param args the HandlerWrapper class name, the client factory as {@code class#staticMethod}, the path of
+     *             the handler request JSON to measure, and the paths of any further requests to serve
+     */
+    public static void main(final String[] args) throws Exception {
+        final long mainEpochMillis = System.currentTimeMillis();
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        final long uptimeAtMain = ManagementFactory.getRuntimeMXBean().getUptime();
+        final ClassLoader classLoader = ColdStartProbe.class.getClassLoader();
+        final StringBuilder result = new StringBuilder(RESULT_PREFIX)
+            .append("mainEpochMillis=").append(mainEpochMillis)
+            .append(" uptimeAtMainMs=").append(uptimeAtMain);
+
+        long classes = classLoading.getTotalLoadedClassCount();
+        long start = System.nanoTime();
+        final Class<?> wrapperClass = Class.forName(args[0], true, classLoader);
+        classes = phase(result, "loadWrapper", start, classes, classLoading);
+
+        start = System.nanoTime();
+        final String[] clientFactory = args[1].split("#");
+        final Object client = Class.forName(clientFactory[0], true, classLoader)
+            .getMethod(clientFactory[1])
+            .invoke(null);
+        classes = phase(result, "client", start, classes, classLoading);
+
+        start = System.nanoTime();
+        final Object wrapper = wrapperClass.getConstructor().newInstance();
+        classes = phase(result, "initWrapper", start, classes, classLoading);
+
+        final Class<?> contextClass = Class.forName("com.amazonaws.services.lambda.runtime.Context", true, classLoader);
+        final Object context = Proxy.newProxyInstance(classLoader, new Class<?>[] {contextClass},
+            new ColdStartProbe(classLoader));
+        final Method handleRequest =
+            wrapperClass.getMethod("handleRequest", InputStream.class, OutputStream.class, contextClass);
+        final byte[] payload = Files.readAllBytes(Paths.get(args[2]));
+        final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        start = System.nanoTime();
+        handleRequest.invoke(wrapper, new ByteArrayInputStream(payload), response, context);
+        phase(result, "firstCall", start, classes, classLoading);
+
+        final Matcher status = STATUS.matcher(new String(response.toByteArray(), StandardCharsets.UTF_8));
+        for (int i = 3; i < args.length; i++) {
+            handleRequest.invoke(wrapper, new ByteArrayInputStream(Files.readAllBytes(Paths.get(args[i]))),
+                new ByteArrayOutputStream(), context);
+        }
+        result.append(" loadedClasses=").append(classLoading.getTotalLoadedClassCount())
+            .append(" classLoadingMs=").append(hotspotClassLoadingMillis())
+            .append(" status=").append(status.find() ? status.group(1) : "UNKNOWN");
+        if (client instanceof AutoCloseable) {
+            ((AutoCloseable) client).close();
+        }
+        System.out.println(result);
+        System.exit(0);
+    }
+
+    private static long phase(final StringBuilder result,
+                              final String name,
+                              final long startNanos,
+                              final long classesBefore,
+                              final ClassLoadingMXBean classLoading) {
+        final long elapsedMicros = (System.nanoTime() - startNanos) / 1000;
+        final long classes = classLoading.getTotalLoadedClassCount();
+        result.append(' ').append(name).append("Ms=").append(elapsedMicros / 1000.0)
+            .append(' ').append(name).append("Classes=").append(classes - classesBefore);
+        return classes;
+    }
+
+    /**
+     * The time HotSpot spent loading classes, from its internal class loading MBean. JDK 9 and later only allow
+     * this with {@code --add-exports java.management/sun.management=ALL-UNNAMED}.
+     *
+     * @return milliseconds, or -1 if the JVM does not expose it
+     */
+    private static long hotspotClassLoadingMillis() {
+        try {
+            final Object bean = Class.forName("sun.management.ManagementFactoryHelper")
+                .getMethod("getHotspotClassLoadingMBean").invoke(null);
+            return (Long) Class.forName("sun.management.HotspotClassLoadingMBean")
+                .getMethod("getClassLoadingTime").invoke(bean);
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Answers the Lambda Context and LambdaLogger calls of the wrapper. Log lines go to stderr.
+     */
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getLogger":
+                return Proxy.newProxyInstance(classLoader, new Class<?>[] {method.getReturnType()}, this);
+            case "log":
+                System.err.println(args[0] instanceof byte[]
+                    ? new String((byte[]) args[0], StandardCharsets.UTF_8) : String.valueOf(args[0]));
+                return null;
+            case "getRemainingTimeInMillis":
+                return (int) REMAINING_TIME_MILLIS;
+            case "getMemoryLimitInMB":
+                return 256;
+            case "getAwsRequestId":
+                return "cold-start";
+            case "getFunctionName":
+                return "cold-start";
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "ColdStartContext";
+            default:
+                return null;
+        }
+    }
+}
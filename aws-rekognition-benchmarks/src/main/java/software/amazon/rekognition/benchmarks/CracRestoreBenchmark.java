@@ -0,0 +1,189 @@
+package software.amazon.rekognition.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.rekognition.benchmarks.ColdStartBenchmark.Action;
+import software.amazon.rekognition.benchmarks.ColdStartBenchmark.HandlerModule;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Restore-to-first-response time of each handler from a CRaC checkpoint, against a cold start of the same JVM
+ * build. Needs a JDK with CRaC on Linux, and the permissions CRIU needs to checkpoint and restore a process.
+ * <p>
+ * For each module it starts the JVM build of {@code LambdaRuntime} with {@code -XX:CRaCCheckpointTo} and
+ * {@code -Drekognition.checkpointAfterInit=true}, so the JVM checkpoints once the wrapper and its clients are built:
+ * the handlers close their clients and connection pools before the checkpoint and rebuild them on restore. Every
+ * sample then restores a fresh process with {@code -XX:CRaCRestoreFrom} and hands it one event, and every
+ * {@code cold} sample starts the plain JVM build instead. The checkpointed process keeps the Runtime API address and
+ * stub endpoint of this run, so both stay up on the same ports for all samples. A restored JVM gets the process id
+ * it was checkpointed with, so it is killed by that id after each sample, before the next restore.
+ * <p>
+ * It prints the medians of {@code initMs} (launch or restore to the first poll for an event) and
+ * {@code firstResponseMs} (launch or restore to the first response) per module, action and start, and writes every
+ * sample with p50 and p90 to {@code crac-restore-<yyyyMMdd-HHmmss>.json}. Memory is left to
+ * {@link NativeStartupBenchmark}: the memory figures of a restore sample are those of the launcher, not of the
+ * restored JVM. Run it from the benchmarks module after
+ * building the handler jars:
+ * {@code java -cp target/benchmarks.jar software.amazon.rekognition.benchmarks.CracRestoreBenchmark
+ * [--samples 10] [--latency-ms 5] [--modules collection,project] [--actions CREATE,READ,UPDATE,DELETE,LIST]
+ * [--collection-jar path] [--project-jar path] [--jvm-args "..."] [--output file]}.
+ */
+public final class CracRestoreBenchmark {
+
+    private static final String[] METRICS = {"initMs", "firstResponseMs"};
+    private static final long CHECKPOINT_TIMEOUT_SECONDS = 120;
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+    private static final DateTimeFormatter RESULT_FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private CracRestoreBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = ColdStartBenchmark.parseOptions(args);
+        final int samples = Integer.parseInt(options.getOrDefault("samples", "10"));
+        final int latencyMillis = Integer.parseInt(options.getOrDefault("latency-ms", "5"));
+        final String jvmArgs = options.getOrDefault("jvm-args", ColdStartBenchmark.DEFAULT_JVM_ARGS);
+        final String output = options.getOrDefault("output",
+            String.format("crac-restore-%s.json", LocalDateTime.now().format(RESULT_FILE_TIMESTAMP)));
+        final Path workDirectory = Files.createTempDirectory("crac-restore");
+
+        final ObjectNode report = MAPPER.createObjectNode()
+            .put("samples", samples)
+            .put("stubLatencyMillis", latencyMillis)
+            .put("jvmArgs", jvmArgs)
+            .put("javaVersion", System.getProperty("java.version"));
+        final ArrayNode results = report.putArray("results");
+
+        System.out.println(String.format("%-26s %10s %10s  (medians of %d samples)",
+            "Handler", "init ms", "first ms", samples));
+
+        try (LocalRekognition stub = LocalRekognition.start(Duration.ofMillis(latencyMillis));
+             LocalLambdaRuntimeApi runtimeApi = LocalLambdaRuntimeApi.start()) {
+            for (HandlerModule module : ColdStartBenchmark.selected(HandlerModule.class, options.get("modules"))) {
+                final Path jar = module.jar(options);
+                if (!Files.isRegularFile(jar)) {
+                    System.out.println(String.format("Skipping %s, %s does not exist", module.getTypeName(), jar));
+                    continue;
+                }
+                final List<String> cold = new ArrayList<>();
+                cold.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+                cold.addAll(ColdStartBenchmark.splitJvmArgs(jvmArgs));
+                cold.add("-Daws.region=" + LocalRekognition.REGION);
+                cold.add("-Daws.endpointUrlRekognition=" + stub.endpoint());
+                cold.add("-cp");
+                cold.add(jar.toString());
+                cold.add(module.runtimeClass());
+
+                final Path image = workDirectory.resolve(module.name().toLowerCase() + "-checkpoint");
+                final Path checkpointLog = workDirectory.resolve("checkpoint.log");
+                final long checkpointedPid = checkpoint(runtimeApi, cold, image, checkpointLog);
+                if (checkpointedPid == 0) {
+                    System.out.println(String.format("Skipping %s, no checkpoint in %s; this JVM may not support "
+                        + "CRaC, see %s", module.getTypeName(), image, checkpointLog));
+                    continue;
+                }
+                final Map<String, List<String>> starts = new LinkedHashMap<>();
+                starts.put("cold", cold);
+                starts.put("restore", Arrays.asList(cold.get(0), "-XX:CRaCRestoreFrom=" + image));
+
+                for (Action action : ColdStartBenchmark.selected(Action.class, options.get("actions"))) {
+                    for (Map.Entry<String, List<String>> start : starts.entrySet()) {
+                        final ObjectNode result = results.addObject()
+                            .put("module", module.getTypeName())
+                            .put("action", action.name())
+                            .put("start", start.getKey());
+                        final ArrayNode sampleNodes = result.putArray("samples");
+                        final List<Map<String, Double>> runs = new ArrayList<>();
+                        for (int sample = 0; sample < samples; sample++) {
+                            ColdStartBenchmark.prepareStub(stub.emulator(), module, action);
+                            final Map<String, Double> run = NativeStartupBenchmark.runSample(runtimeApi,
+                                start.getValue(), ColdStartBenchmark.requestJson(module, action), workDirectory,
+                                sampleNodes);
+                            if (run != null) {
+                                runs.add(run);
+                            }
+                            if ("restore".equals(start.getKey())) {
+                                stop(checkpointedPid);
+                            }
+                        }
+                        NativeStartupBenchmark.summarize(String.format("%s %s %s", module.name().toLowerCase(),
+                            action.name().toLowerCase(), start.getKey()), METRICS, runs, result);
+                    }
+                }
+            }
+        }
+
+        MAPPER.writeValue(new File(output), report);
+        System.out.println("Results written to " + output);
+    }
+
+    /**
+     * Starts the JVM build with a checkpoint after init and waits for the JVM to exit once the image is written.
+     *
+     * @return the process id of the checkpointed JVM, or 0 if there is no checkpoint image
+     */
+    private static long checkpoint(final LocalLambdaRuntimeApi runtimeApi,
+                                      final List<String> cold,
+                                      final Path image,
+                                      final Path log) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>(cold);
+        command.add(1, "-XX:CRaCCheckpointTo=" + image);
+        command.add(2, "-Drekognition.checkpointAfterInit=true");
+        runtimeApi.reset();
+        final ProcessBuilder processBuilder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile());
+        processBuilder.environment().put("AWS_LAMBDA_RUNTIME_API", runtimeApi.address());
+        processBuilder.environment().put("AWS_REGION", LocalRekognition.REGION);
+        processBuilder.environment().put("AWS_LAMBDA_FUNCTION_MEMORY_SIZE", "256");
+        final Process process = processBuilder.start();
+        if (!process.waitFor(CHECKPOINT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            // Still polling for events: the checkpoint failed and the runtime carried on without it
+            process.destroyForcibly().waitFor();
+        }
+        if (!Files.isDirectory(image)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(image)) {
+            if (!files.findAny().isPresent()) {
+                return 0;
+            }
+        }
+        try {
+            // CRaC needs Java 17 or later, so Process.pid() is there; the benchmarks still compile for Java 8
+            return (Long) Process.class.getMethod("pid").invoke(process);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot get the process id of the checkpointed JVM", e);
+        }
+    }
+
+    /**
+     * Kills the restored JVM, which the restore launcher does not take down with it, and waits for it to be gone.
+     */
+    private static void stop(final long pid) throws IOException, InterruptedException {
+        new ProcessBuilder("kill", "-9", String.valueOf(pid)).redirectErrorStream(true).start().waitFor();
+        final long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MILLIS;
+        final Path proc = Paths.get("/proc", String.valueOf(pid));
+        while (Files.exists(proc) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package software.amazon.rekognition.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Every recorded latency of one call chain, kept in full so percentiles are exact.
+ */
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int count;
+
+    void add(final long latencyNanos) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = latencyNanos;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the nearest-rank percentile in milliseconds, or NaN without samples
+     */
+    double percentileMillis(final double percentile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        final long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(0, Math.min(count, rank) - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,185 @@
+package software.amazon.rekognition.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The part of the Lambda Runtime API that a custom runtime talks to, on a free local port: it hands out queued
+ * events on {@code GET /2018-06-01/runtime/invocation/next} and collects what the runtime posts back. Both the
+ * native and the JVM build of a handler's {@code LambdaRuntime} run against it with
+ * {@code AWS_LAMBDA_RUNTIME_API} set to {@link #address()}. One server serves one process after the other, with a
+ * {@link #reset()} in between.
+ */
+final class LocalLambdaRuntimeApi implements AutoCloseable {
+
+    private static final String PREFIX = "/2018-06-01/runtime/";
+    private static final long DEADLINE_MILLIS = 15 * 60 * 1000;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final BlockingDeque<byte[]> events = new LinkedBlockingDeque<>();
+    private final BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+    private volatile long firstPollNanos;
+    private volatile int generation;
+
+    private LocalLambdaRuntimeApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "lambda-runtime-api");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(PREFIX, this::handle);
+    }
+
+    static LocalLambdaRuntimeApi start() throws IOException {
+        final LocalLambdaRuntimeApi runtimeApi = new LocalLambdaRuntimeApi();
+        runtimeApi.server.start();
+        return runtimeApi;
+    }
+
+    /**
+     * @return the {@code host:port} for {@code AWS_LAMBDA_RUNTIME_API}
+     */
+    String address() {
+        return "127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Forgets the events, results and first poll of the previous process. A poll the previous process left open
+     * gets no further events.
+     */
+    void reset() {
+        generation++;
+        events.clear();
+        results.clear();
+        firstPollNanos = 0;
+    }
+
+    void enqueue(final byte[] event) {
+        events.add(event);
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} of the first poll for an event, which ends the init phase, or 0
+     */
+    long firstPollNanos() {
+        return firstPollNanos;
+    }
+
+    /**
+     * Waits for the runtime to post the response or error of an invocation, or an init error.
+     *
+     * @return the result, or null if none arrives in time
+     */
+    Result awaitResult(final Duration timeout) throws InterruptedException {
+        return results.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            final String path = exchange.getRequestURI().getPath().substring(PREFIX.length());
+            if ("invocation/next".equals(path)) {
+                if (firstPollNanos == 0) {
+                    firstPollNanos = System.nanoTime();
+                }
+                final int pollGeneration = generation;
+                byte[] event = null;
+                try {
+                    while (event == null) {
+                        event = events.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        if (generation != pollGeneration) {
+                            if (event != null) {
+                                events.offerFirst(event);
+                            }
+                            return;
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                exchange.getResponseHeaders().set("Lambda-Runtime-Aws-Request-Id", UUID.randomUUID().toString());
+                exchange.getResponseHeaders().set("Lambda-Runtime-Deadline-Ms",
+                    String.valueOf(System.currentTimeMillis() + DEADLINE_MILLIS));
+                respond(exchange, 200, event);
+                return;
+            }
+            final long receivedNanos = System.nanoTime();
+            results.add(new Result(!path.endsWith("/response"), readAll(body), receivedNanos));
+            respond(exchange, 202, "{}".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * What the runtime posted: an invocation response, or an invocation or init error.
+     */
+    static final class Result {
+        private final boolean error;
+        private final byte[] body;
+        private final long receivedNanos;
+
+        private Result(final boolean error, final byte[] body, final long receivedNanos) {
+            this.error = error;
+            this.body = body;
+            this.receivedNanos = receivedNanos;
+        }
+
+        boolean isError() {
+            return error;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        long getReceivedNanos() {
+            return receivedNanos;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.rekognition.benchmarks;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.rekognition.emulator.EmulatorConfig;
+import software.amazon.rekognition.emulator.RekognitionEmulator;
+import software.amazon.rekognition.emulator.RekognitionEmulatorServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * A {@link RekognitionEmulatorServer} on a free local port that every Rekognition client built afterwards in this
+ * JVM talks to. The handlers are not changed for this: the clients their {@code ClientBuilder}s build pick the
+ * endpoint up from the SDK's {@code aws.endpointUrlRekognition} system property, and the region from
+ * {@code aws.region}.
+ */
+public final class LocalRekognition implements AutoCloseable {
+
+    public static final String REGION = "us-east-1";
+    private static final String ENDPOINT_PROPERTY = "aws.endpointUrlRekognition";
+    private static final String REGION_PROPERTY = "aws.region";
+
+    private final RekognitionEmulatorServer server;
+
+    private LocalRekognition(final RekognitionEmulatorServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts the stub and points the SDK at it. Clients must be built after this call.
+     *
+     * @param latency the time every call takes on the stub
+     * @return the running stub
+     * @throws IllegalStateException if the AWS SDK on the class path ignores the endpoint system property
+     */
+    public static LocalRekognition start(final Duration latency) throws IOException {
+        final RekognitionEmulator emulator = new RekognitionEmulator(EmulatorConfig.builder()
+            .latency(latency)
+            .region(REGION)
+            .build());
+        final LocalRekognition localRekognition =
+            new LocalRekognition(RekognitionEmulatorServer.start(emulator, 0));
+        System.setProperty(ENDPOINT_PROPERTY, localRekognition.server.endpoint().toString());
+        System.setProperty(REGION_PROPERTY, REGION);
+        localRekognition.verifyEndpointOverride();
+        return localRekognition;
+    }
+
+    /**
+     * @return the stub endpoint, for clients in other JVMs
+     */
+    public URI endpoint() {
+        return server.endpoint();
+    }
+
+    public RekognitionEmulator emulator() {
+        return server.getEmulator();
+    }
+
+    @Override
+    public void close() {
+        System.clearProperty(ENDPOINT_PROPERTY);
+        server.close();
+    }
+
+    /**
+     * Makes one call through a client built like the handlers build theirs, so a benchmark never measures real
+     * AWS endpoints by accident.
+     */
+    private void verifyEndpointOverride() {
+        final long requestCount = emulator().getRequestCount();
+        try (RekognitionClient client = RekognitionClient.builder()
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "secret")))
+            .build()) {
+            client.listCollections(r -> { });
+        } catch (final RuntimeException e) {
+            close();
+            throw new IllegalStateException("Rekognition calls do not reach the local stub at "
+                + server.endpoint() + ", the AWS SDK must support " + ENDPOINT_PROPERTY, e);
+        }
+        if (emulator().getRequestCount() == requestCount) {
+            close();
+            throw new IllegalStateException("Rekognition calls do not reach the local stub at " + server.endpoint());
+        }
+    }
+}
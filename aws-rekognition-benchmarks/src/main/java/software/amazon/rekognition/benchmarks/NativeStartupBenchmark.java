@@ -0,0 +1,244 @@
+package software.amazon.rekognition.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.rekognition.benchmarks.ColdStartBenchmark.Action;
+import software.amazon.rekognition.benchmarks.ColdStartBenchmark.HandlerModule;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup time and memory of the native image of each handler against its JVM build. Both run the module's
+ * {@code LambdaRuntime} custom runtime loop, the JVM build from the shaded jar, against a local Lambda Runtime API
+ * and the local Rekognition stub, one fresh process per sample.
+ * <p>
+ * For each module, action and build it prints the medians, and writes all samples with p50 and p90 to
+ * {@code native-startup-<yyyyMMdd-HHmmss>.json}:
+ * <ul>
+ *     <li>initMs: from process launch to the runtime's first poll for an event</li>
+ *     <li>firstResponseMs: from process launch to the response of the first event</li>
+ *     <li>rssMb and peakRssMb: the resident set size after the first response and its high-water mark, from
+ *     {@code /proc}, so only on Linux and with Java 9 or later running the benchmark</li>
+ * </ul>
+ * Run it from the benchmarks module after building the handler jars, and the native images with
+ * {@code mvn package -Pnative} in each module:
+ * {@code java -cp target/benchmarks.jar software.amazon.rekognition.benchmarks.NativeStartupBenchmark
+ * [--samples 10] [--latency-ms 5] [--modules collection,project] [--actions CREATE,READ,UPDATE,DELETE,LIST]
+ * [--collection-jar path] [--collection-native path] [--project-jar path] [--project-native path]
+ * [--jvm-args "..."] [--output file]}.
+ */
+public final class NativeStartupBenchmark {
+
+    private static final String[] METRICS = {"initMs", "firstResponseMs", "rssMb", "peakRssMb"};
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMinutes(1);
+    private static final Pattern STATUS = Pattern.compile("\"status\"\\s*:\\s*\"([A-Z_]+)\"");
+    private static final DateTimeFormatter RESULT_FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private NativeStartupBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = ColdStartBenchmark.parseOptions(args);
+        final int samples = Integer.parseInt(options.getOrDefault("samples", "10"));
+        final int latencyMillis = Integer.parseInt(options.getOrDefault("latency-ms", "5"));
+        final String jvmArgs = options.getOrDefault("jvm-args", ColdStartBenchmark.DEFAULT_JVM_ARGS);
+        final String output = options.getOrDefault("output",
+            String.format("native-startup-%s.json", LocalDateTime.now().format(RESULT_FILE_TIMESTAMP)));
+        final Path workDirectory = Files.createTempDirectory("native-startup");
+
+        final ObjectNode report = MAPPER.createObjectNode()
+            .put("samples", samples)
+            .put("stubLatencyMillis", latencyMillis)
+            .put("jvmArgs", jvmArgs)
+            .put("javaVersion", System.getProperty("java.version"));
+        final ArrayNode results = report.putArray("results");
+
+        System.out.println(String.format("%-26s %10s %10s %10s %10s  (medians of %d samples)",
+            "Handler", "init ms", "first ms", "rss MB", "peak MB", samples));
+
+        try (LocalRekognition stub = LocalRekognition.start(Duration.ofMillis(latencyMillis));
+             LocalLambdaRuntimeApi runtimeApi = LocalLambdaRuntimeApi.start()) {
+            for (HandlerModule module : ColdStartBenchmark.selected(HandlerModule.class, options.get("modules"))) {
+                final Map<String, List<String>> builds = builds(module, options, jvmArgs, stub);
+                for (Action action : ColdStartBenchmark.selected(Action.class, options.get("actions"))) {
+                    for (Map.Entry<String, List<String>> build : builds.entrySet()) {
+                        final ObjectNode result = results.addObject()
+                            .put("module", module.getTypeName())
+                            .put("action", action.name())
+                            .put("build", build.getKey());
+                        final ArrayNode sampleNodes = result.putArray("samples");
+                        final List<Map<String, Double>> runs = new ArrayList<>();
+                        for (int sample = 0; sample < samples; sample++) {
+                            ColdStartBenchmark.prepareStub(stub.emulator(), module, action);
+                            final Map<String, Double> run = runSample(runtimeApi, build.getValue(),
+                                ColdStartBenchmark.requestJson(module, action), workDirectory, sampleNodes);
+                            if (run != null) {
+                                runs.add(run);
+                            }
+                        }
+                        summarize(String.format("%s %s %s", module.name().toLowerCase(),
+                            action.name().toLowerCase(), build.getKey()), METRICS, runs, result);
+                    }
+                }
+            }
+        }
+
+        MAPPER.writeValue(new File(output), report);
+        System.out.println("Results written to " + output);
+    }
+
+    /**
+     * The command lines of the module's builds that exist: {@code jvm} for the shaded jar and {@code native} for
+     * the native image.
+     */
+    private static Map<String, List<String>> builds(final HandlerModule module,
+                                                    final Map<String, String> options,
+                                                    final String jvmArgs,
+                                                    final LocalRekognition stub) {
+        final List<String> properties = new ArrayList<>();
+        properties.add("-Daws.region=" + LocalRekognition.REGION);
+        properties.add("-Daws.endpointUrlRekognition=" + stub.endpoint());
+
+        final Map<String, List<String>> builds = new LinkedHashMap<>();
+        final Path jar = module.jar(options);
+        if (Files.isRegularFile(jar)) {
+            final List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(ColdStartBenchmark.splitJvmArgs(jvmArgs));
+            command.addAll(properties);
+            command.add("-cp");
+            command.add(jar.toString());
+            command.add(module.runtimeClass());
+            builds.put("jvm", command);
+        } else {
+            System.out.println(String.format("Skipping the JVM build of %s, %s does not exist",
+                module.getTypeName(), jar));
+        }
+        final Path nativeImage = module.nativeImage(options);
+        if (Files.isExecutable(nativeImage)) {
+            // Native images take system properties on their command line too
+            final List<String> command = new ArrayList<>();
+            command.add(nativeImage.toString());
+            command.addAll(properties);
+            builds.put("native", command);
+        } else {
+            System.out.println(String.format("Skipping the native build of %s, %s does not exist",
+                module.getTypeName(), nativeImage));
+        }
+        return builds;
+    }
+
+    /**
+     * Starts a runtime process, hands it one event and measures it up to the response.
+     *
+     * @return the metrics of the sample, also added to sampleNodes, or null if the process did not respond
+     */
+    static Map<String, Double> runSample(final LocalLambdaRuntimeApi runtimeApi,
+                                         final List<String> command,
+                                         final byte[] event,
+                                         final Path workDirectory,
+                                         final ArrayNode sampleNodes) throws IOException, InterruptedException {
+        final Path log = workDirectory.resolve("runtime.log");
+        final ObjectNode sampleNode = sampleNodes.addObject();
+        runtimeApi.reset();
+        runtimeApi.enqueue(event);
+        final ProcessBuilder processBuilder = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile());
+        processBuilder.environment().put("AWS_LAMBDA_RUNTIME_API", runtimeApi.address());
+        processBuilder.environment().put("AWS_REGION", LocalRekognition.REGION);
+        processBuilder.environment().put("AWS_LAMBDA_FUNCTION_MEMORY_SIZE", "256");
+
+        final long launchNanos = System.nanoTime();
+        final Process process = processBuilder.start();
+        try {
+            final LocalLambdaRuntimeApi.Result result = runtimeApi.awaitResult(RESPONSE_TIMEOUT);
+            if (result == null || result.isError() || runtimeApi.firstPollNanos() == 0) {
+                final String failure = String.format("%s, see %s",
+                    result == null ? "no response" : new String(result.getBody(), StandardCharsets.UTF_8), log);
+                sampleNode.put("error", failure);
+                System.out.println("  sample failed: " + failure);
+                return null;
+            }
+
+            final Map<String, Double> run = new LinkedHashMap<>();
+            run.put("initMs", (runtimeApi.firstPollNanos() - launchNanos) / 1_000_000.0);
+            run.put("firstResponseMs", (result.getReceivedNanos() - launchNanos) / 1_000_000.0);
+            final Map<String, Long> memory = processMemoryKb(process);
+            if (memory.containsKey("VmRSS")) {
+                run.put("rssMb", memory.get("VmRSS") / 1024.0);
+            }
+            if (memory.containsKey("VmHWM")) {
+                run.put("peakRssMb", memory.get("VmHWM") / 1024.0);
+            }
+            for (Map.Entry<String, Double> metric : run.entrySet()) {
+                sampleNode.put(metric.getKey(), metric.getValue());
+            }
+            final Matcher status = STATUS.matcher(new String(result.getBody(), StandardCharsets.UTF_8));
+            sampleNode.put("status", status.find() ? status.group(1) : "UNKNOWN");
+            return run;
+        } finally {
+            // The runtime loops waiting for the next event until it is stopped
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    /**
+     * Reads the memory lines of {@code /proc/<pid>/status}. Process ids are only available from Java 9.
+     *
+     * @return kB by field name, or an empty map where that is not possible
+     */
+    private static Map<String, Long> processMemoryKb(final Process process) {
+        final Map<String, Long> memory = new LinkedHashMap<>();
+        try {
+            final Object pid = Process.class.getMethod("pid").invoke(process);
+            for (String line : Files.readAllLines(Paths.get("/proc", String.valueOf(pid), "status"))) {
+                final String[] fields = line.split("\\s+");
+                if (fields.length == 3 && fields[0].startsWith("Vm") && "kB".equals(fields[2])) {
+                    memory.put(fields[0].substring(0, fields[0].length() - 1), Long.parseLong(fields[1]));
+                }
+            }
+        } catch (final ReflectiveOperationException | IOException e) {
+            return memory;
+        }
+        return memory;
+    }
+
+    static void summarize(final String name,
+                          final String[] metrics,
+                          final List<Map<String, Double>> runs,
+                          final ObjectNode result) {
+        final ObjectNode medians = result.putObject("p50");
+        final ObjectNode p90s = result.putObject("p90");
+        final StringBuilder line = new StringBuilder(String.format("%-26s", name));
+        for (String metric : metrics) {
+            final double[] values = runs.stream()
+                .filter(run -> run.containsKey(metric))
+                .mapToDouble(run -> run.get(metric))
+                .sorted()
+                .toArray();
+            final double median = ColdStartBenchmark.percentile(values, 50);
+            medians.put(metric, median);
+            p90s.put(metric, ColdStartBenchmark.percentile(values, 90));
+            line.append(String.format(" %10.1f", median));
+        }
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,104 @@
+package software.amazon.rekognition.benchmarks;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The client proxy CloudFormation hands to a handler, timing every service call it makes.
+ * <p>
+ * A call made through {@code proxy.initiate("AWS-Rekognition-Collection::DescribeCollection", ...)} is recorded
+ * under that call chain name. A call made directly through {@code injectCredentialsAndInvokeV2}, as the project
+ * handlers do, is recorded under the prefix and the operation name, for example
+ * {@code AWS-Rekognition-Project::DescribeProjects}. The time covers credential injection, SDK marshalling,
+ * the HTTP round trip and unmarshalling. Single-threaded, like a handler invocation.
+ */
+public class RecordingClientProxy extends AmazonWebServicesClientProxy {
+
+    private static final long REMAINING_TIME_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    private final String callChainPrefix;
+    private final Map<String, LatencySamples> samples = new TreeMap<>();
+    private String callChain;
+    private boolean recording;
+
+    /**
+     * @param callChainPrefix the prefix for calls made outside a call chain, for example
+     *                        {@code AWS-Rekognition-Project::}
+     */
+    public RecordingClientProxy(final String callChainPrefix) {
+        super(new LoggerProxy(), new Credentials("akid", "secret", "token"), () -> REMAINING_TIME_MILLIS);
+        this.callChainPrefix = callChainPrefix;
+    }
+
+    /**
+     * Turns recording on or off, so warmup iterations stay out of the samples.
+     */
+    public void setRecording(final boolean recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public <ClientT, ModelT, CallbackT extends StdCallbackContext>
+        CallChain.RequestMaker<ClientT, ModelT, CallbackT> initiate(
+            final String callGraph,
+            final ProxyClient<ClientT> client,
+            final ModelT model,
+            final CallbackT context) {
+        callChain = callGraph;
+        return super.initiate(callGraph, client, model, context);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResultT> requestFunction) {
+
+        // A call chain makes one service call, anything after it belongs to no chain
+        final String label = callChain != null ? callChain : callChainPrefix + operationName(request);
+        callChain = null;
+
+        final long start = System.nanoTime();
+        try {
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        } finally {
+            if (recording) {
+                samples.computeIfAbsent(label, k -> new LatencySamples()).add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Prints p50, p99 and p99.9 in milliseconds for every call chain recorded so far.
+     */
+    public void printReport(final String title, final PrintStream out) {
+        out.println();
+        out.println(title);
+        out.println(String.format("%-55s %9s %9s %9s %9s", "Call chain", "samples", "p50 ms", "p99 ms", "p99.9 ms"));
+        for (Map.Entry<String, LatencySamples> entry : samples.entrySet()) {
+            final LatencySamples latencies = entry.getValue();
+            out.println(String.format("%-55s %9d %9.3f %9.3f %9.3f",
+                entry.getKey(),
+                latencies.count(),
+                latencies.percentileMillis(50),
+                latencies.percentileMillis(99),
+                latencies.percentileMillis(99.9)));
+        }
+    }
+
+    private static String operationName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+}
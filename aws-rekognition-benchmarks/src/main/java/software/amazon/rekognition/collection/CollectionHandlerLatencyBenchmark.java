@@ -0,0 +1,190 @@
+package software.amazon.rekognition.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rekognition.benchmarks.LocalRekognition;
+import software.amazon.rekognition.benchmarks.RecordingClientProxy;
+import software.amazon.rekognition.emulator.RekognitionEmulator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a full invocation of each collection handler: the real handler, {@code ClientBuilder} client and
+ * SDK stack, talking HTTP to a local Rekognition stub that answers every call after a fixed latency.
+ * <p>
+ * A handler that returns IN_PROGRESS is invoked again with its CallbackContext right away, so create covers
+ * CreateCollection and the read that follows it. JMH reports p50, p99 and p99.9 per handler. At the end of the
+ * run the same percentiles are printed per call chain ({@code AWS-Rekognition-Collection::*}), measured over
+ * the measurement iterations only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CollectionHandlerLatencyBenchmark {
+
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String READ_COLLECTION_ID = "benchmark-read";
+    private static final int LISTED_COLLECTIONS = 50;
+    private static final int MAX_INVOCATIONS = 10;
+
+    @Param({"5"})
+    private int stubLatencyMillis;
+
+    private LocalRekognition localRekognition;
+    private RecordingClientProxy proxy;
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private UpdateHandler updateHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+    private long collectionNumber;
+    private boolean tagged;
+
+    @Setup(Level.Trial)
+    public void startStub() throws IOException {
+        localRekognition = LocalRekognition.start(Duration.ofMillis(stubLatencyMillis));
+        proxy = new RecordingClientProxy("AWS-Rekognition-Collection::");
+        // The handlers build their clients in the constructor, so only once the SDK points at the stub
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        updateHandler = new UpdateHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStub(final IterationParams iterationParams) {
+        final RekognitionEmulator emulator = localRekognition.emulator();
+        emulator.reset();
+        emulator.createCollection(CreateCollectionRequest.builder().collectionId(READ_COLLECTION_ID).build());
+        for (int i = 1; i < LISTED_COLLECTIONS; i++) {
+            emulator.createCollection(CreateCollectionRequest.builder().collectionId("benchmark-list-" + i).build());
+        }
+        proxy.setRecording(iterationParams.getType() == IterationType.MEASUREMENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub(final BenchmarkParams benchmarkParams) {
+        proxy.printReport(String.format("%s, stub latency %d ms",
+            benchmarkParams.getBenchmark(), stubLatencyMillis), System.out);
+        localRekognition.close();
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        final ResourceModel model = ResourceModel.builder()
+            .collectionId("benchmark-" + collectionNumber++)
+            .tags(TagHelper.convertToSet(Collections.singletonMap("team", "vision")))
+            .build();
+        return invokeUntilDone(createHandler, request(model, null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return invokeUntilDone(readHandler,
+            request(ResourceModel.builder().collectionId(READ_COLLECTION_ID).build(), null));
+    }
+
+    /**
+     * Replaces one tag with another, so every update untags, tags and reads.
+     */
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        final ResourceModel previous = modelWithTag(tagged ? "stage-a" : "stage-b");
+        final ResourceModel desired = modelWithTag(tagged ? "stage-b" : "stage-a");
+        tagged = !tagged;
+        return invokeUntilDone(updateHandler, request(desired, previous));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> delete(final CollectionToDelete collection) {
+        return invokeUntilDone(deleteHandler,
+            request(ResourceModel.builder().collectionId(collection.collectionId).build(), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return invokeUntilDone(listHandler, request(ResourceModel.builder().build(), null));
+    }
+
+    /**
+     * A collection created on the stub, outside the measured time, before every delete.
+     */
+    @State(Scope.Thread)
+    public static class CollectionToDelete {
+        private static long collectionNumber;
+        private String collectionId;
+
+        @Setup(Level.Invocation)
+        public void createCollection(final CollectionHandlerLatencyBenchmark benchmark) {
+            collectionId = "benchmark-delete-" + collectionNumber++;
+            benchmark.localRekognition.emulator()
+                .createCollection(CreateCollectionRequest.builder().collectionId(collectionId).build());
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(
+        final BaseHandler<CallbackContext> handler,
+        final ResourceHandlerRequest<ResourceModel> request) {
+
+        CallbackContext callbackContext = new CallbackContext();
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            final ProgressEvent<ResourceModel, CallbackContext> event =
+                handler.handleRequest(proxy, request, callbackContext, LOGGER);
+            if (event.getStatus() == OperationStatus.SUCCESS) {
+                return event;
+            }
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                throw new IllegalStateException(String.format("%s failed: %s %s",
+                    handler.getClass().getSimpleName(), event.getErrorCode(), event.getMessage()));
+            }
+            callbackContext = event.getCallbackContext();
+        }
+        throw new IllegalStateException(handler.getClass().getSimpleName() + " did not finish in "
+            + MAX_INVOCATIONS + " invocations");
+    }
+
+    private static ResourceModel modelWithTag(final String key) {
+        return ResourceModel.builder()
+            .collectionId(READ_COLLECTION_ID)
+            .tags(TagHelper.convertToSet(Collections.singletonMap(key, "benchmark")))
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .awsPartition("aws")
+            .region(LocalRekognition.REGION)
+            .awsAccountId(ACCOUNT_ID)
+            .build();
+    }
+}
@@ -0,0 +1,116 @@
+package software.amazon.rekognition.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.AccessDeniedException;
+import software.amazon.awssdk.services.rekognition.model.InternalServerErrorException;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.InvalidParameterException;
+import software.amazon.awssdk.services.rekognition.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.rekognition.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.rekognition.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a Rekognition exception to a CloudFormation exception in {@link BaseHandlerStd#handlerError}.
+ * <p>
+ * The exceptions are listed in the order of the instanceof chain, and InternalServerError falls through all of
+ * it to the default. Most of the cost is the stack trace of the new CloudFormation exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerErrorBenchmark {
+
+    private static final Logger NO_OP_LOGGER = message -> { };
+
+    @Param({
+        "AccessDenied",
+        "InvalidParameter",
+        "ProvisionedThroughputExceeded",
+        "ResourceNotFound",
+        "Throttling",
+        "ResourceAlreadyExists",
+        "ServiceQuotaExceeded",
+        "InvalidPaginationToken",
+        "InternalServerError"
+    })
+    private String exception;
+
+    private BaseHandlerStd handler;
+    private Exception serviceException;
+
+    @Setup
+    public void setup() {
+        // The handler builds its client in the constructor, which needs a region but makes no call
+        if (System.getProperty("aws.region") == null) {
+            System.setProperty("aws.region", "us-east-1");
+        }
+        handler = new ErrorMappingHandler();
+        serviceException = newServiceException(exception);
+    }
+
+    @Benchmark
+    public BaseHandlerException handlerError() {
+        return handler.handlerError(serviceException, NO_OP_LOGGER);
+    }
+
+    private static Exception newServiceException(final String name) {
+        switch (name) {
+            case "AccessDenied":
+                return AccessDeniedException.builder().message(name).build();
+            case "InvalidParameter":
+                return InvalidParameterException.builder().message(name).build();
+            case "ProvisionedThroughputExceeded":
+                return ProvisionedThroughputExceededException.builder().message(name).build();
+            case "ResourceNotFound":
+                return ResourceNotFoundException.builder().message(name).build();
+            case "Throttling":
+                return ThrottlingException.builder().message(name).build();
+            case "ResourceAlreadyExists":
+                return ResourceAlreadyExistsException.builder().message(name).build();
+            case "ServiceQuotaExceeded":
+                return ServiceQuotaExceededException.builder().message(name).build();
+            case "InvalidPaginationToken":
+                return InvalidPaginationTokenException.builder().message(name).build();
+            case "InternalServerError":
+                return InternalServerErrorException.builder().message(name).build();
+            default:
+                throw new IllegalArgumentException(name);
+        }
+    }
+
+    private static final class ErrorMappingHandler extends BaseHandlerStd {
+        @Override
+        protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<RekognitionClient> proxyClient,
+            final Logger logger) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package software.amazon.rekognition.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the log messages of one read through {@link ReadHandler}: the handler request, the DescribeCollection
+ * and ListTagsForResource requests, and a line after each call.
+ * <p>
+ * {@code formatted} builds them with {@code String.format} and the full {@code toString()} of each request, as the
+ * handlers did before {@link HandlerLogger}. {@code handlerLogger} logs them through a new {@link HandlerLogger} per
+ * invocation at INFO, with DEBUG sampled out, and {@code handlerLoggerSampled} with DEBUG written. Run with
+ * {@code -prof gc} for the bytes allocated per invocation. Each benchmark returns the characters it logged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerLoggingBenchmark {
+
+    private static final int BUDGET = 4096;
+
+    @Param({"0", "10", "50"})
+    private int tagCount;
+
+    private ResourceHandlerRequest<ResourceModel> request;
+    private DescribeCollectionRequest describeRequest;
+    private ListTagsForResourceRequest listTagsRequest;
+    private int loggedCharacters;
+    private final Logger sink = message -> loggedCharacters += message.length();
+
+    @Setup
+    public void setup() {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        final ResourceModel model = ResourceModel.builder()
+            .collectionId("benchmark-collection")
+            .arn("arn:aws:rekognition:us-east-1:123456789012:collection/benchmark-collection")
+            .tags(TagHelper.convertToSet(tags))
+            .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(model)
+            .desiredResourceTags(tags)
+            .logicalResourceIdentifier("BenchmarkCollection")
+            .clientRequestToken("4b90a7e4-b790-456b-a937-0cfdfa211dfe")
+            .awsAccountId("123456789012")
+            .region("us-east-1")
+            .build();
+        describeRequest = Translator.translateToReadRequest(model);
+        listTagsRequest = Translator.translateToListTagsRequest(model);
+    }
+
+    @Benchmark
+    public int formatted() {
+        loggedCharacters = 0;
+        sink.log(String.format("Cfn Request: %s", request));
+        sink.log(String.format("Service Request: %s", describeRequest));
+        sink.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+        sink.log(String.format("Service Request: %s", listTagsRequest));
+        sink.log(String.format("%s Tags have successfully been read.", ResourceModel.TYPE_NAME));
+        return loggedCharacters;
+    }
+
+    @Benchmark
+    public int handlerLogger() {
+        return logRead(new HandlerLogger(sink, HandlerLogger.Level.INFO, BUDGET, false));
+    }
+
+    @Benchmark
+    public int handlerLoggerSampled() {
+        return logRead(new HandlerLogger(sink, HandlerLogger.Level.INFO, BUDGET, true));
+    }
+
+    private int logRead(final HandlerLogger logger) {
+        loggedCharacters = 0;
+        logger.info(() -> "Cfn Request: " + HandlerLogger.describe(request));
+        logger.debug(() -> "Service Request: " + HandlerLogger.describe(describeRequest));
+        logger.info(ResourceModel.TYPE_NAME + " has successfully been read.");
+        logger.debug(() -> "Service Request: " + HandlerLogger.describe(listTagsRequest));
+        logger.info(ResourceModel.TYPE_NAME + " Tags have successfully been read.");
+        logger.finish();
+        return loggedCharacters;
+    }
+}
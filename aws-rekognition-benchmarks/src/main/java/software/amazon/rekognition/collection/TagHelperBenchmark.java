@@ -0,0 +1,96 @@
+package software.amazon.rekognition.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the tag conversions and of the update diff in {@link TagHelper}.
+ * <p>
+ * The desired tags keep the first half of the previous tags, change the value of a quarter and replace the last
+ * quarter with new keys, so the diff benchmarks always have tags to add and to remove.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagHelperBenchmark {
+
+    @Param({"0", "10", "50", "200"})
+    private int tagCount;
+
+    private Map<String, String> previousTags;
+    private Map<String, String> desiredTags;
+    private Set<Tag> previousTagSet;
+    private ResourceModel desiredModel;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    @Setup
+    public void setup() {
+        previousTags = new HashMap<>();
+        desiredTags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            previousTags.put("key-" + i, "value-" + i);
+            if (i < tagCount / 2) {
+                desiredTags.put("key-" + i, "value-" + i);
+            } else if (i < tagCount * 3 / 4) {
+                desiredTags.put("key-" + i, "changed-" + i);
+            } else {
+                desiredTags.put("new-key-" + i, "value-" + i);
+            }
+        }
+        previousTagSet = TagHelper.convertToSet(previousTags);
+        desiredModel = ResourceModel.builder()
+            .collectionId("benchmark-collection")
+            .tags(TagHelper.convertToSet(desiredTags))
+            .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(ResourceModel.builder()
+                .collectionId("benchmark-collection")
+                .tags(previousTagSet)
+                .build())
+            .desiredResourceState(desiredModel)
+            .build();
+    }
+
+    @Benchmark
+    public Map<String, String> convertToMap() {
+        return TagHelper.convertToMap(previousTagSet);
+    }
+
+    @Benchmark
+    public Set<Tag> convertToSet() {
+        return TagHelper.convertToSet(previousTags);
+    }
+
+    @Benchmark
+    public Map<String, String> generateTagsToAdd() {
+        return TagHelper.generateTagsToAdd(previousTags, desiredTags);
+    }
+
+    @Benchmark
+    public Set<String> generateTagsToRemove() {
+        return TagHelper.generateTagsToRemove(previousTags, desiredTags);
+    }
+
+    @Benchmark
+    public boolean shouldUpdateTags() {
+        return TagHelper.shouldUpdateTags(desiredModel, request);
+    }
+}
@@ -0,0 +1,97 @@
+package software.amazon.rekognition.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building requests and models in {@link Translator}.
+ * <p>
+ * tagCount is the number of resource tags on the model and in the ListTagsForResource response, pageSize the
+ * number of collections in a ListCollections page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"0", "10", "50", "200"})
+    private int tagCount;
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private ListTagsForResourceResponse listTagsForResourceResponse;
+    private ListCollectionsResponse listCollectionsResponse;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put("key-" + i, "value-" + i);
+        }
+        model = ResourceModel.builder()
+            .collectionId("benchmark-collection")
+            .arn("arn:aws:rekognition:us-east-1:000000000000:collection/benchmark-collection")
+            .tags(TagHelper.convertToSet(tags))
+            .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+            .awsPartition("aws")
+            .region("us-east-1")
+            .awsAccountId("000000000000")
+            .desiredResourceState(model)
+            .build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+            .tags(tags)
+            .build();
+
+        final List<String> collectionIds = new ArrayList<>(pageSize);
+        final List<String> faceModelVersions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            collectionIds.add("benchmark-collection-" + i);
+            faceModelVersions.add("6.0");
+        }
+        listCollectionsResponse = ListCollectionsResponse.builder()
+            .collectionIds(collectionIds)
+            .faceModelVersions(faceModelVersions)
+            .build();
+    }
+
+    @Benchmark
+    public CreateCollectionRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, request);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromListTagsResponse() {
+        return Translator.translateFromListTagsResponse(listTagsForResourceResponse, model, request);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListResponse() {
+        return Translator.translateFromListResponse(listCollectionsResponse, request);
+    }
+}
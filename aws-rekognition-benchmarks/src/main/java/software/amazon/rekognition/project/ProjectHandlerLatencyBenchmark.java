@@ -0,0 +1,184 @@
+package software.amazon.rekognition.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rekognition.benchmarks.LocalRekognition;
+import software.amazon.rekognition.benchmarks.RecordingClientProxy;
+import software.amazon.rekognition.emulator.RekognitionEmulator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a full invocation of each project handler: the real handler, the client shared through
+ * {@code ClientBuilder} and the SDK stack, talking HTTP to a local Rekognition stub that answers every call after a
+ * fixed latency.
+ * <p>
+ * A handler that returns IN_PROGRESS is invoked again with its CallbackContext right away, so create covers
+ * CreateProject and the DescribeProjects poll that sees it CREATED, and delete covers DeleteProject and the poll
+ * that no longer finds the project. JMH reports p50, p99 and p99.9 per handler. At the end of the run the same
+ * percentiles are printed per service call ({@code AWS-Rekognition-Project::*}), measured over the measurement
+ * iterations only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ProjectHandlerLatencyBenchmark {
+
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String READ_PROJECT_NAME = "benchmark-read";
+    private static final int LISTED_PROJECTS = 50;
+    private static final int MAX_INVOCATIONS = 10;
+
+    @Param({"5"})
+    private int stubLatencyMillis;
+
+    private LocalRekognition localRekognition;
+    private RecordingClientProxy proxy;
+    private String readProjectArn;
+    private long projectNumber;
+    private boolean tagged;
+
+    @Setup(Level.Trial)
+    public void startStub() throws IOException {
+        localRekognition = LocalRekognition.start(Duration.ofMillis(stubLatencyMillis));
+        proxy = new RecordingClientProxy("AWS-Rekognition-Project::");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStub(final IterationParams iterationParams) {
+        final RekognitionEmulator emulator = localRekognition.emulator();
+        emulator.reset();
+        readProjectArn = emulator.createProject(CreateProjectRequest.builder().projectName(READ_PROJECT_NAME).build())
+            .projectArn();
+        for (int i = 1; i < LISTED_PROJECTS; i++) {
+            emulator.createProject(CreateProjectRequest.builder().projectName("benchmark-list-" + i).build());
+        }
+        proxy.setRecording(iterationParams.getType() == IterationType.MEASUREMENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStub(final BenchmarkParams benchmarkParams) {
+        proxy.printReport(String.format("%s, stub latency %d ms",
+            benchmarkParams.getBenchmark(), stubLatencyMillis), System.out);
+        localRekognition.close();
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> create() {
+        final ResourceModel model = ResourceModel.builder()
+            .projectName("benchmark-" + projectNumber++)
+            .tags(TagHelper.convertToSet(Collections.singletonMap("team", "vision")))
+            .build();
+        return invokeUntilDone(new CreateHandler(), request(model, null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return invokeUntilDone(new ReadHandler(),
+            request(ResourceModel.builder().projectName(READ_PROJECT_NAME).build(), null));
+    }
+
+    /**
+     * Replaces one tag with another, so every update untags, tags and reads.
+     */
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        final ResourceModel previous = modelWithTag(tagged ? "stage-a" : "stage-b");
+        final ResourceModel desired = modelWithTag(tagged ? "stage-b" : "stage-a");
+        tagged = !tagged;
+        return invokeUntilDone(new UpdateHandler(), request(desired, previous));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> delete(final ProjectToDelete project) {
+        return invokeUntilDone(new DeleteHandler(),
+            request(ResourceModel.builder().projectName(project.projectName).build(), null));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return invokeUntilDone(new ListHandler(), request(ResourceModel.builder().build(), null));
+    }
+
+    /**
+     * A project created on the stub, outside the measured time, before every delete.
+     */
+    @State(Scope.Thread)
+    public static class ProjectToDelete {
+        private static long projectNumber;
+        private String projectName;
+
+        @Setup(Level.Invocation)
+        public void createProject(final ProjectHandlerLatencyBenchmark benchmark) {
+            projectName = "benchmark-delete-" + projectNumber++;
+            benchmark.localRekognition.emulator()
+                .createProject(CreateProjectRequest.builder().projectName(projectName).build());
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(
+        final BaseHandler<CallbackContext> handler,
+        final ResourceHandlerRequest<ResourceModel> request) {
+
+        CallbackContext callbackContext = null;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            final ProgressEvent<ResourceModel, CallbackContext> event =
+                handler.handleRequest(proxy, request, callbackContext, LOGGER);
+            if (event.getStatus() == OperationStatus.SUCCESS) {
+                return event;
+            }
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                throw new IllegalStateException(String.format("%s failed: %s %s",
+                    handler.getClass().getSimpleName(), event.getErrorCode(), event.getMessage()));
+            }
+            callbackContext = event.getCallbackContext();
+        }
+        throw new IllegalStateException(handler.getClass().getSimpleName() + " did not finish in "
+            + MAX_INVOCATIONS + " invocations");
+    }
+
+    private ResourceModel modelWithTag(final String key) {
+        return ResourceModel.builder()
+            .projectName(READ_PROJECT_NAME)
+            .arn(readProjectArn)
+            .tags(TagHelper.convertToSet(Collections.singletonMap(key, "benchmark")))
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .awsPartition("aws")
+            .region(LocalRekognition.REGION)
+            .awsAccountId(ACCOUNT_ID)
+            .build();
+    }
+}
@@ -0,0 +1,88 @@
+package software.amazon.rekognition.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.arns.Arn;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-element cost of project ARN parsing in {@link Utils}.
+ * <p>
+ * The "arnParser" benchmarks replicate the previous implementation ({@code Arn.fromString},
+ * {@code resourceAsString()} and a regex-backed {@code split}) so both can be compared in one run.
+ * The find benchmarks search for the last project of a page, so divide by pageSize for the per-element cost.
+ * Run with {@code -prof gc} to see bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilsBenchmark {
+
+    private static final String ARN_FORMAT = "arn:aws:rekognition:us-east-1:000000000000:project/%s/1611111111111";
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private String projectArn;
+    private String projectName;
+    private DescribeProjectsResponse describeProjectsResponse;
+
+    @Setup
+    public void setup() {
+        final List<ProjectDescription> projects = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            projects.add(ProjectDescription.builder()
+                .projectArn(String.format(ARN_FORMAT, "benchmark-project-" + i))
+                .build());
+        }
+        describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(projects)
+            .build();
+        projectName = "benchmark-project-" + (pageSize - 1);
+        projectArn = String.format(ARN_FORMAT, projectName);
+    }
+
+    @Benchmark
+    public String getProjectNameFromArn() {
+        return Utils.getProjectNameFromArn(projectArn);
+    }
+
+    @Benchmark
+    public String getProjectNameFromArn_arnParser() {
+        return arnParserProjectName(projectArn);
+    }
+
+    @Benchmark
+    public Optional<ProjectDescription> findProjectByNameInResponse() {
+        return Utils.findProjectByNameInResponse(describeProjectsResponse, projectName);
+    }
+
+    @Benchmark
+    public Optional<ProjectDescription> findProjectByNameInResponse_arnParser() {
+        return describeProjectsResponse.projectDescriptions().stream()
+            .filter(projectDescription -> arnParserProjectName(projectDescription.projectArn()).equals(projectName))
+            .findFirst();
+    }
+
+    private static String arnParserProjectName(final String projectArn) {
+        return Arn.fromString(projectArn).resourceAsString().split("/", 3)[1];
+    }
+}
@@ -9,6 +9,7 @@ import software.amazon.awssdk.services.rekognition.model.ResourceAlreadyExistsEx
 import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.rekognition.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
@@ -23,17 +24,26 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import lombok.experimental.Accessors;
-import lombok.Getter;
-
-@Accessors(fluent = true)
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
-    @Getter
-    private final RekognitionClient rekognitionClient;
+    static {
+        // The wrapper builds the handlers during init, so this runs before the first invocation
+        Primer.primeOnInit();
+    }
+
+    // Shared by every handler instance, closed before a CRaC checkpoint and rebuilt on restore
+    private static final CheckpointAwareClient<RekognitionClient> REKOGNITION_CLIENT =
+        new CheckpointAwareClient<>(ClientBuilder::getClient);
+
+    public RekognitionClient rekognitionClient() {
+        return REKOGNITION_CLIENT.get();
+    }
 
-    protected BaseHandlerStd() {
-        this.rekognitionClient = ClientBuilder.getClient();
+    /**
+     * @return the S3 client shared by the handlers, for face metadata export and seeding
+     */
+    public S3Client s3Client() {
+        return S3ClientHolder.CLIENT.get();
     }
 
     @Override
@@ -42,13 +52,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
-        return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(this::rekognitionClient),
-            logger
-        );
+        // Shared by every handler this invocation calls, so they log within one budget
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
+        try {
+            return handleRequest(
+                proxy,
+                request,
+                callbackContext != null ? callbackContext : new CallbackContext(),
+                proxy.newProxy(this::rekognitionClient),
+                handlerLogger
+            );
+        } finally {
+            handlerLogger.finish();
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -58,37 +74,44 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ProxyClient<RekognitionClient> proxyClient,
         final Logger logger);
 
+    // Built on first use, since only an export or a seeding calls S3, then reused like the Rekognition client
+    private static final class S3ClientHolder {
+        private static final CheckpointAwareClient<S3Client> CLIENT =
+            new CheckpointAwareClient<>(ClientBuilder::getS3Client);
+    }
+
     protected BaseHandlerException handlerError(final Exception exception, final Logger logger) {
+        final HandlerLogger handlerLogger = HandlerLogger.of(logger);
         if (exception instanceof AccessDeniedException) {
-            logger.log("We can't process the request because you are not authorized to perform the action.");
+            handlerLogger.warn("We can't process the request because you are not authorized to perform the action.");
             return new CfnAccessDeniedException(exception);
 
         } else if (exception instanceof InvalidParameterException) {
-            logger.log("Input parameter violated a constraint. Validate your parameter before calling the API operation again.");
+            handlerLogger.warn("Input parameter violated a constraint. Validate your parameter before calling the API operation again.");
             return new CfnInvalidRequestException(exception);
 
         } else if (exception instanceof ProvisionedThroughputExceededException) {
-            logger.log("The number of requests exceeded your throughput limit. If you want to increase this limit, contact Amazon Rekognition.");
+            handlerLogger.warn("The number of requests exceeded your throughput limit. If you want to increase this limit, contact Amazon Rekognition.");
             return new CfnServiceLimitExceededException(exception);
 
         } else if (exception instanceof ResourceNotFoundException) {
-            logger.log("The resource specified in the request cannot be found.");
+            handlerLogger.warn("The resource specified in the request cannot be found.");
             return new CfnNotFoundException(exception);
 
         } else if (exception instanceof ThrottlingException) {
-            logger.log("Amazon Rekognition is temporarily unable to process the request. Try your call again.");
+            handlerLogger.warn("Amazon Rekognition is temporarily unable to process the request. Try your call again.");
             return new CfnThrottlingException(exception);
 
         } else if (exception instanceof ResourceAlreadyExistsException) {
-            logger.log("There is already a resource with this name. Try again with a different name.");
+            handlerLogger.warn("There is already a resource with this name. Try again with a different name.");
             return new CfnAlreadyExistsException(exception);
 
         } else if (exception instanceof ServiceQuotaExceededException) {
-            logger.log("The size of the resource exceeds the allowed limit. For more information, see Guidelines and quotas in Amazon Rekognition.");
+            handlerLogger.warn("The size of the resource exceeds the allowed limit. For more information, see Guidelines and quotas in Amazon Rekognition.");
             return new CfnServiceLimitExceededException(exception);
 
         } else if (exception instanceof InvalidPaginationTokenException) {
-            logger.log("Pagination token in the request is not valid.");
+            handlerLogger.warn("Pagination token in the request is not valid.");
             return new CfnInvalidRequestException(exception);
 
         }
@@ -2,10 +2,30 @@ package software.amazon.rekognition.collection;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     private boolean isCreated = false;
+    private boolean isDeleteRequested = false;
+    private int stabilizationRetries = 0;
+    private boolean isFacePurgeComplete = false;
+    private String facePurgeCursor;
+    private long purgedFaces = 0;
+    private boolean isFaceExportComplete = false;
+    private String faceExportKey;
+    private String faceExportUploadId;
+    private String faceExportCursor;
+    private List<String> faceExportPartETags = new ArrayList<>();
+    private long exportedFaces = 0;
+    private boolean isSeedComplete = false;
+    private long seedManifestOffset = 0;
+    private long seededImages = 0;
+    private long indexedFaces = 0;
+    private long seedFailedImages = 0;
+    private List<String> seedFailures = new ArrayList<>();
 }
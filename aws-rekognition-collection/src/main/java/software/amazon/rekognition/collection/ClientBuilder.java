@@ -1,13 +1,14 @@
 package software.amazon.rekognition.collection;
 
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
-import software.amazon.awssdk.core.retry.RetryPolicy;
-import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
-import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
-import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
-import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.rekognition.RekognitionClientBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
 
 import java.time.Duration;
 
@@ -16,25 +17,50 @@ public class ClientBuilder {
     private static final Integer CLIENT_TIMEOUT_SECONDS = 30;
     private static final Integer CLIENT_NUM_RETRIES = 3;
 
+    // Throttled calls back off exponentially from 1s up to 20s, with a random half of each delay
     private static final BackoffStrategy BACKOFF_THROTTLING_STRATEGY =
-            EqualJitterBackoffStrategy.builder()
-                    .baseDelay(Duration.ofSeconds(1))
-                    .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF) // default is 20s
-                    .build();
-    private static final RetryPolicy RETRY_POLICY =
-            RetryPolicy.builder()
-                    .numRetries(CLIENT_NUM_RETRIES)
-                    .retryCondition(RetryCondition.defaultRetryCondition())
+            BackoffStrategy.exponentialDelayHalfJitter(Duration.ofSeconds(1), Duration.ofSeconds(20));
+    // Without the client-side token bucket, so a run of failed calls never stops the next one from being retried
+    private static final RetryStrategy RETRY_STRATEGY =
+            AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                    .maxAttempts(CLIENT_NUM_RETRIES + 1)
                     .throttlingBackoffStrategy(BACKOFF_THROTTLING_STRATEGY)
+                    .circuitBreakerEnabled(false)
                     .build();
+    // Owned here rather than shared with LambdaWrapper.HTTP_CLIENT, so its pool can be closed for a CRaC checkpoint
+    private static final CheckpointAwareClient<SdkHttpClient> HTTP_CLIENT =
+            new CheckpointAwareClient<>(() -> ApacheHttpClient.builder().build());
+
+    static SdkHttpClient httpClient() {
+        return HTTP_CLIENT.get();
+    }
 
     public static RekognitionClient getClient() {
+        return rekognitionClientBuilder(ClientOverrideConfiguration.builder()).build();
+    }
+
+    /**
+     * @param overrideConfiguration configuration on top of the handlers' own, such as the interceptor of the
+     *                              {@link Primer} client
+     * @return a builder configured like the handlers' clients, on the shared HTTP client
+     */
+    static RekognitionClientBuilder rekognitionClientBuilder(
+        final ClientOverrideConfiguration.Builder overrideConfiguration) {
         return RekognitionClient.builder()
+            .overrideConfiguration(overrideConfiguration
+                .apiCallTimeout(Duration.ofSeconds(CLIENT_TIMEOUT_SECONDS))
+                .retryStrategy(RETRY_STRATEGY)
+                .build())
+            .httpClient(httpClient());
+    }
+
+    public static S3Client getS3Client() {
+        return S3Client.builder()
             .overrideConfiguration(ClientOverrideConfiguration.builder()
                 .apiCallTimeout(Duration.ofSeconds(CLIENT_TIMEOUT_SECONDS))
-                .retryPolicy(RETRY_POLICY)
+                .retryStrategy(RETRY_STRATEGY)
                 .build())
-            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .httpClient(httpClient())
             .build();
     }
 }
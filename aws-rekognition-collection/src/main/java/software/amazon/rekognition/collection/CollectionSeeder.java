@@ -0,0 +1,200 @@
+package software.amazon.rekognition.collection;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.Image;
+import software.amazon.awssdk.services.rekognition.model.ImageTooLargeException;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.InvalidImageFormatException;
+import software.amazon.awssdk.services.rekognition.model.InvalidParameterException;
+import software.amazon.awssdk.services.rekognition.model.InvalidS3ObjectException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Indexes the faces of the images listed in a manifest into a collection.
+ * <p>
+ * The manifest is a text object in S3 with one image per line, written as {@code s3://bucket/key} and optionally
+ * followed by {@code ,ExternalImageId}. Blank lines and lines starting with {@code #} are skipped.
+ * Every call reads the next batchSize lines, starting at the byte offset checkpointed in the CallbackContext with a
+ * ranged GetObject, and runs IndexFaces for them on a {@link RateLimitedExecutor}. The offset only moves forward
+ * once the whole batch has finished, so a failed invocation repeats at most one batch. Images Rekognition rejects
+ * are counted and the first few are kept for the log.
+ */
+class CollectionSeeder {
+
+    static final int DEFAULT_BATCH_SIZE = 200;
+    static final int DEFAULT_MAX_CONCURRENCY = 8;
+    static final int DEFAULT_MAX_REQUESTS_PER_SECOND = 10;
+    static final int MAX_RECORDED_FAILURES = 10;
+
+    private static final String S3_URI_SCHEME = "s3://";
+
+    private final ProxyClient<RekognitionClient> rekognitionProxyClient;
+    private final ProxyClient<S3Client> s3ProxyClient;
+    private final HandlerLogger logger;
+    private final int batchSize;
+    private final RateLimitedExecutor executor;
+
+    CollectionSeeder(final ProxyClient<RekognitionClient> rekognitionProxyClient,
+                     final ProxyClient<S3Client> s3ProxyClient,
+                     final Logger logger) {
+        this(rekognitionProxyClient, s3ProxyClient, logger,
+            DEFAULT_BATCH_SIZE, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_REQUESTS_PER_SECOND);
+    }
+
+    CollectionSeeder(final ProxyClient<RekognitionClient> rekognitionProxyClient,
+                     final ProxyClient<S3Client> s3ProxyClient,
+                     final Logger logger,
+                     final int batchSize,
+                     final int maxConcurrency,
+                     final int maxRequestsPerSecond) {
+        this.rekognitionProxyClient = rekognitionProxyClient;
+        this.s3ProxyClient = s3ProxyClient;
+        this.logger = HandlerLogger.of(logger);
+        this.batchSize = batchSize;
+        this.executor = new RateLimitedExecutor(maxConcurrency, maxRequestsPerSecond);
+    }
+
+    /**
+     * Indexes the next batch of manifest lines and moves the checkpoint past them.
+     *
+     * @param collectionId the collection to index the faces into
+     * @param manifest the S3 location of the manifest
+     * @param callbackContext holds the manifest offset and the seeding counters, and is updated by this call
+     * @return true once the end of the manifest has been reached
+     */
+    boolean seed(final String collectionId, final S3Object manifest, final CallbackContext callbackContext) {
+        final List<String> lines = new ArrayList<>(batchSize);
+        final long nextOffset;
+        final boolean endOfManifest;
+
+        try (ResponseInputStream<GetObjectResponse> in = getManifest(manifest, callbackContext.getSeedManifestOffset())) {
+            long offset = callbackContext.getSeedManifestOffset();
+            byte[] line = null;
+            while (lines.size() < batchSize && (line = readLine(in)) != null) {
+                offset += line.length + 1;
+                final String trimmed = new String(line, StandardCharsets.UTF_8).trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    lines.add(trimmed);
+                }
+            }
+            nextOffset = offset;
+            endOfManifest = line == null || in.read() < 0;
+            // Skip downloading the rest of the manifest, the next call requests it from nextOffset
+            in.abort();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final List<Callable<Void>> requests = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            requests.add(() -> indexImage(collectionId, line, callbackContext));
+        }
+        executor.runAll(requests);
+
+        callbackContext.setSeedManifestOffset(nextOffset);
+        logger.info(() -> String.format("Seeded %d images of %s (%d faces, %d failed), manifest offset %d",
+            callbackContext.getSeededImages(), collectionId, callbackContext.getIndexedFaces(),
+            callbackContext.getSeedFailedImages(), nextOffset));
+        return endOfManifest;
+    }
+
+    private ResponseInputStream<GetObjectResponse> getManifest(final S3Object manifest, final long offset) {
+        final GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+            .bucket(manifest.getBucket())
+            .key(manifest.getKey())
+            .range(offset > 0 ? String.format("bytes=%d-", offset) : null)
+            .build();
+        return s3ProxyClient.injectCredentialsAndInvokeV2InputStream(getObjectRequest, s3ProxyClient.client()::getObject);
+    }
+
+    private Void indexImage(final String collectionId, final String line, final CallbackContext callbackContext)
+        throws InterruptedException {
+        final IndexFacesRequest indexFacesRequest;
+        try {
+            indexFacesRequest = toIndexFacesRequest(collectionId, line);
+        } catch (final IllegalArgumentException e) {
+            recordFailure(callbackContext, line, e.getMessage());
+            return null;
+        }
+
+        executor.acquirePermit();
+        try {
+            final IndexFacesResponse response = rekognitionProxyClient.injectCredentialsAndInvokeV2(
+                indexFacesRequest, rekognitionProxyClient.client()::indexFaces);
+            synchronized (callbackContext) {
+                callbackContext.setSeededImages(callbackContext.getSeededImages() + 1);
+                callbackContext.setIndexedFaces(callbackContext.getIndexedFaces() + response.faceRecords().size());
+            }
+        } catch (final InvalidS3ObjectException | InvalidImageFormatException
+            | ImageTooLargeException | InvalidParameterException e) {
+            // The image itself is unusable, retrying would not help
+            recordFailure(callbackContext, line, e.getMessage());
+        }
+        return null;
+    }
+
+    static IndexFacesRequest toIndexFacesRequest(final String collectionId, final String line) {
+        final int comma = line.indexOf(',');
+        final String uri = (comma < 0 ? line : line.substring(0, comma)).trim();
+        final String externalImageId = comma < 0 ? null : line.substring(comma + 1).trim();
+
+        final int slash = uri.indexOf('/', S3_URI_SCHEME.length());
+        if (!uri.startsWith(S3_URI_SCHEME) || slash <= S3_URI_SCHEME.length() || slash == uri.length() - 1) {
+            throw new IllegalArgumentException(String.format("Expected s3://bucket/key: %s", uri));
+        }
+
+        return IndexFacesRequest.builder()
+            .collectionId(collectionId)
+            .image(Image.builder()
+                .s3Object(software.amazon.awssdk.services.rekognition.model.S3Object.builder()
+                    .bucket(uri.substring(S3_URI_SCHEME.length(), slash))
+                    .name(uri.substring(slash + 1))
+                    .build())
+                .build())
+            .externalImageId(externalImageId == null || externalImageId.isEmpty() ? null : externalImageId)
+            .build();
+    }
+
+    private void recordFailure(final CallbackContext callbackContext, final String line, final String reason) {
+        logger.info(() -> String.format("Skipping manifest line %s: %s", line, reason));
+        synchronized (callbackContext) {
+            callbackContext.setSeedFailedImages(callbackContext.getSeedFailedImages() + 1);
+            if (callbackContext.getSeedFailures().size() < MAX_RECORDED_FAILURES) {
+                callbackContext.getSeedFailures().add(String.format("%s: %s", line, reason));
+            }
+        }
+    }
+
+    /**
+     * Reads the raw bytes of one line, without the terminating '\n'. A '\r' before it is kept, so the length
+     * plus one is always the number of bytes the line takes up in the manifest.
+     *
+     * @return the line, or null at the end of the stream
+     */
+    private static byte[] readLine(final InputStream in) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        int b;
+        while ((b = in.read()) >= 0 && b != '\n') {
+            line.write(b);
+        }
+        if (b < 0 && line.size() == 0) {
+            return null;
+        }
+        return line.toByteArray();
+    }
+}
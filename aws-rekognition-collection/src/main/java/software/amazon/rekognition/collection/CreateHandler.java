@@ -4,6 +4,7 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
 import software.amazon.awssdk.services.rekognition.model.CreateCollectionResponse;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -15,12 +16,16 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
  * Create Cloudformation handler for Rekognition::Collection Resource.
  * Flow -
  *  1. Call CreateCollection.
- *  2. Call ReadHandler to return created collection (DescribeCollection + ListTagsForResource)
+ *  2. If SeedManifest is set, index the faces of the listed images (see {@link CollectionSeeder}), one batch per
+ *     callback, with the manifest offset in the CallbackContext.
+ *  3. Call ReadHandler to return created collection (DescribeCollection + ListTagsForResource)
  */
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ReadHandler readHandler = new ReadHandler();
+    private HandlerLogger logger;
 
     private static final int CREATE_STABILIZATION_DELAY = 65;
+    private static final int SEED_CALLBACK_DELAY_SECONDS = 1;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -30,14 +35,22 @@ public class CreateHandler extends BaseHandlerStd {
         final Logger logger
     ) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
-        logger.log(String.format("Cfn Request: %s", request));
+        this.logger.info(() -> "Cfn Request: " + HandlerLogger.describe(request));
 
         if (callbackContext.isCreated()) {
-            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            final ResourceModel model = request.getDesiredResourceState();
+            if (model.getSeedManifest() != null && !callbackContext.isSeedComplete()) {
+                seedCollection(proxy, proxyClient, model, callbackContext);
+                if (!callbackContext.isSeedComplete()) {
+                    return ProgressEvent.defaultInProgressHandler(callbackContext, SEED_CALLBACK_DELAY_SECONDS, model);
+                }
+            }
+            return readHandler.handleRequest(proxy, request, callbackContext, proxyClient, this.logger);
         }
 
+        ResourceModelValidator.validate(request.getDesiredResourceState());
         callbackContext.setCreated(true);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
@@ -49,14 +62,35 @@ public class CreateHandler extends BaseHandlerStd {
             );
     }
 
+    private void seedCollection(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<RekognitionClient> proxyClient,
+        final ResourceModel model,
+        final CallbackContext callbackContext
+    ) {
+        final ProxyClient<S3Client> s3ProxyClient = proxy.newProxy(this::s3Client);
+        try {
+            callbackContext.setSeedComplete(new CollectionSeeder(proxyClient, s3ProxyClient, logger)
+                .seed(model.getCollectionId(), model.getSeedManifest(), callbackContext));
+        } catch (final AwsServiceException e) {
+            throw this.handlerError(e, logger);
+        }
+
+        if (callbackContext.isSeedComplete()) {
+            logger.info(() -> String.format("%s seeded with %d faces from %d images, %d images failed: %s",
+                ResourceModel.TYPE_NAME, callbackContext.getIndexedFaces(), callbackContext.getSeededImages(),
+                callbackContext.getSeedFailedImages(), callbackContext.getSeedFailures()));
+        }
+    }
+
     private CreateCollectionResponse createCollection(
         final CreateCollectionRequest request,
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             CreateCollectionResponse response = client.injectCredentialsAndInvokeV2(request, client.client()::createCollection);
-            logger.log(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " successfully created.");
             return response;
 
         } catch (final AwsServiceException e) {
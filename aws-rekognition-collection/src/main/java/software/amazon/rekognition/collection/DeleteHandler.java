@@ -1,17 +1,41 @@
 package software.amazon.rekognition.collection;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.DeleteCollectionRequest;
 import software.amazon.awssdk.services.rekognition.model.DeleteCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+/**
+ * Delete Cloudformation handler for Rekognition::Collection Resource.
+ * Flow -
+ *  0. If FaceMetadataExport is set, write the face metadata to S3 (see {@link FaceMetadataExporter}), returning
+ *     IN_PROGRESS with the export checkpoint in the CallbackContext until the object is complete. The call that
+ *     completes it goes on to the next step.
+ *  1. If PurgeFacesBeforeDelete is set, delete the faces in batches (see {@link FacePurger}), returning IN_PROGRESS
+ *     with the ListFaces cursor in the CallbackContext until a pass finds no faces.
+ *  2. Call DeleteCollection. If it returns, the collection is deleted.
+ *  3. If the call times out (large collections), the delete may still be running, so return IN_PROGRESS
+ *     and poll DescribeCollection with growing callback delays until the collection is not found.
+ */
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
+    private HandlerLogger logger;
+
+    private static final int BASE_CALLBACK_DELAY_SECONDS = 5;
+    private static final int MAX_CALLBACK_DELAY_SECONDS = 60;
+    static final int MAX_STABILIZATION_RETRIES = 60;
+    private static final int FACE_PURGE_CALLBACK_DELAY_SECONDS = 1;
+    private static final int FACE_EXPORT_CALLBACK_DELAY_SECONDS = 1;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -20,18 +44,123 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+
+        this.logger.info(() -> "Cfn Request: " + HandlerLogger.describe(request));
+
+        if (callbackContext.isDeleteRequested()) {
+            return waitForDeletion(proxy, proxyClient, request.getDesiredResourceState(), callbackContext);
+        }
+
+        if (request.getDesiredResourceState().getFaceMetadataExport() != null
+            && !callbackContext.isFaceExportComplete()) {
+            final ProgressEvent<ResourceModel, CallbackContext> exportProgress =
+                exportFaceMetadata(proxy, proxyClient, request.getDesiredResourceState(), callbackContext);
+            if (!callbackContext.isFaceExportComplete()) {
+                return exportProgress;
+            }
+        }
 
-        logger.log(String.format("Cfn Request: %s", request));
+        if (Boolean.TRUE.equals(request.getDesiredResourceState().getPurgeFacesBeforeDelete())
+            && !callbackContext.isFacePurgeComplete()) {
+            final ProgressEvent<ResourceModel, CallbackContext> purgeProgress =
+                purgeFaces(proxyClient, request.getDesiredResourceState(), callbackContext);
+            if (!callbackContext.isFacePurgeComplete()) {
+                return purgeProgress;
+            }
+        }
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate("AWS-Rekognition-Collection::DeleteCollection", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
                     .makeServiceCall(this::deleteCollection)
-                    .progress()
-            )
-            .then(progress -> ProgressEvent.defaultSuccessHandler(null));
+                    .handleError((deleteRequest, exception, client, model, context) -> {
+                        if (!(exception instanceof ApiCallTimeoutException)) {
+                            throw exception;
+                        }
+                        logger.info(ResourceModel.TYPE_NAME + " deletion timed out, polling until it completes.");
+                        context.setDeleteRequested(true);
+                        return progressWithBackoff(model, context);
+                    })
+                    .done(response -> ProgressEvent.defaultSuccessHandler(null))
+            );
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> exportFaceMetadata(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<RekognitionClient> proxyClient,
+        final ResourceModel model,
+        final CallbackContext callbackContext
+    ) {
+        final ProxyClient<S3Client> s3ProxyClient = proxy.newProxy(this::s3Client);
+        try {
+            callbackContext.setFaceExportComplete(new FaceMetadataExporter(proxyClient, s3ProxyClient, logger)
+                .export(model.getCollectionId(), model.getFaceMetadataExport(), callbackContext));
+        } catch (final AwsServiceException e) {
+            throw this.handlerError(e, logger);
+        }
+
+        logger.info(() -> String.format("%s exported metadata of %d faces so far.", ResourceModel.TYPE_NAME, callbackContext.getExportedFaces()));
+        return ProgressEvent.defaultInProgressHandler(callbackContext, FACE_EXPORT_CALLBACK_DELAY_SECONDS, model);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> purgeFaces(
+        final ProxyClient<RekognitionClient> proxyClient,
+        final ResourceModel model,
+        final CallbackContext callbackContext
+    ) {
+        final FacePurger.Result result;
+        try {
+            result = new FacePurger(proxyClient, logger).purge(model.getCollectionId(), callbackContext.getFacePurgeCursor());
+        } catch (final AwsServiceException e) {
+            throw this.handlerError(e, logger);
+        }
+
+        callbackContext.setPurgedFaces(callbackContext.getPurgedFaces() + result.getDeletedFaces());
+        callbackContext.setFacePurgeCursor(result.getCursor());
+        callbackContext.setFacePurgeComplete(result.isComplete());
+        logger.info(() -> String.format("%s purged %d faces so far.", ResourceModel.TYPE_NAME, callbackContext.getPurgedFaces()));
+
+        return ProgressEvent.defaultInProgressHandler(callbackContext, FACE_PURGE_CALLBACK_DELAY_SECONDS, model);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> waitForDeletion(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<RekognitionClient> proxyClient,
+        final ResourceModel model,
+        final CallbackContext callbackContext
+    ) {
+        return proxy.initiate("AWS-Rekognition-Collection::DescribeCollection", proxyClient, model, callbackContext)
+            .translateToServiceRequest(Translator::translateToReadRequest)
+            .makeServiceCall(this::describeCollection)
+            .handleError((describeRequest, exception, client, resourceModel, context) -> {
+                if (!(exception instanceof CfnNotFoundException)) {
+                    throw exception;
+                }
+                logger.info(ResourceModel.TYPE_NAME + " successfully deleted.");
+                return ProgressEvent.defaultSuccessHandler(null);
+            })
+            .done(response -> {
+                if (callbackContext.getStabilizationRetries() >= MAX_STABILIZATION_RETRIES) {
+                    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getCollectionId());
+                }
+                callbackContext.setStabilizationRetries(callbackContext.getStabilizationRetries() + 1);
+                return progressWithBackoff(model, callbackContext);
+            });
+    }
+
+    /**
+     * The callback delay doubles with every completed poll, starting at BASE_CALLBACK_DELAY_SECONDS
+     * and capped at MAX_CALLBACK_DELAY_SECONDS.
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> progressWithBackoff(
+        final ResourceModel model,
+        final CallbackContext callbackContext
+    ) {
+        final int shift = Math.min(callbackContext.getStabilizationRetries(), 16);
+        final int callbackDelaySeconds = Math.min(BASE_CALLBACK_DELAY_SECONDS << shift, MAX_CALLBACK_DELAY_SECONDS);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, model);
     }
 
     private DeleteCollectionResponse deleteCollection(
@@ -39,9 +168,24 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             DeleteCollectionResponse response = client.injectCredentialsAndInvokeV2(request, client.client()::deleteCollection);
-            logger.log(String.format("%s successfully deleted.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " successfully deleted.");
+            return response;
+
+        } catch (final AwsServiceException e) {
+            throw this.handlerError(e, logger);
+        }
+    }
+
+    private DescribeCollectionResponse describeCollection(
+        final DescribeCollectionRequest request,
+        final ProxyClient<RekognitionClient> client
+    ) {
+        try {
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
+            DescribeCollectionResponse response = client.injectCredentialsAndInvokeV2(request, client.client()::describeCollection);
+            logger.info(ResourceModel.TYPE_NAME + " is still being deleted.");
             return response;
 
         } catch (final AwsServiceException e) {
@@ -0,0 +1,289 @@
+package software.amazon.rekognition.collection;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.Face;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the FaceId, ExternalImageId and ImageId of every face in a collection to S3 as gzip-compressed NDJSON.
+ * <p>
+ * ListFaces pages are compressed into a part buffer until it holds at least the S3 minimum part size, and then
+ * uploaded as one part of a multipart upload. Each part is a complete gzip member, and concatenated members
+ * form a valid gzip file. After every part the upload id, the part ETags and the ListFaces token of the next page
+ * are checkpointed in the CallbackContext, so memory stays at one part buffer and a later invocation continues
+ * after the last uploaded part. One call uploads at most maxParts parts.
+ * <p>
+ * ListFaces tokens expire, and a checkpointed one may be too old by the next invocation. The upload is then
+ * aborted and the checkpoint reset, so the next call starts a new object from the first page. The same happens
+ * when the upload itself is gone, for example aborted by a bucket lifecycle rule.
+ */
+class FaceMetadataExporter {
+
+    // S3 rejects non-final parts smaller than 5 MiB
+    static final int MIN_PART_BYTES = 5 * 1024 * 1024;
+    static final int LIST_FACES_PAGE_SIZE = 4096;
+    static final int DEFAULT_MAX_PARTS = 20;
+
+    private static final String OBJECT_KEY_FORMAT = "%s%s-faces-%d.ndjson.gz";
+
+    private final ProxyClient<RekognitionClient> rekognitionProxyClient;
+    private final ProxyClient<S3Client> s3ProxyClient;
+    private final HandlerLogger logger;
+    private final int minPartBytes;
+    private final int maxParts;
+
+    FaceMetadataExporter(final ProxyClient<RekognitionClient> rekognitionProxyClient,
+                         final ProxyClient<S3Client> s3ProxyClient,
+                         final Logger logger) {
+        this(rekognitionProxyClient, s3ProxyClient, logger, MIN_PART_BYTES, DEFAULT_MAX_PARTS);
+    }
+
+    FaceMetadataExporter(final ProxyClient<RekognitionClient> rekognitionProxyClient,
+                         final ProxyClient<S3Client> s3ProxyClient,
+                         final Logger logger,
+                         final int minPartBytes,
+                         final int maxParts) {
+        this.rekognitionProxyClient = rekognitionProxyClient;
+        this.s3ProxyClient = s3ProxyClient;
+        this.logger = HandlerLogger.of(logger);
+        this.minPartBytes = minPartBytes;
+        this.maxParts = maxParts;
+    }
+
+    /**
+     * Uploads up to maxParts parts, continuing from the checkpoint in the callback context.
+     * <p>
+     * The multipart upload is opened only once the first part is ready, so a collection that cannot be listed
+     * leaves no upload behind. If the export fails, the handler fails with it and its checkpoint is lost, so the
+     * open upload is aborted before the exception is rethrown.
+     *
+     * @param collectionId the collection to export
+     * @param destination the S3 bucket and key prefix to write to
+     * @param callbackContext holds the checkpoint, and is updated after every uploaded part
+     * @return true once the last part is uploaded and the object is complete
+     */
+    boolean export(final String collectionId, final S3Destination destination, final CallbackContext callbackContext) {
+        try {
+            return exportParts(collectionId, destination, callbackContext);
+        } catch (final InvalidPaginationTokenException | NoSuchUploadException e) {
+            restartExport(destination, callbackContext, e);
+            return false;
+        } catch (final RuntimeException e) {
+            try {
+                abortUpload(destination, callbackContext);
+            } catch (final RuntimeException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    private boolean exportParts(final String collectionId,
+                                final S3Destination destination,
+                                final CallbackContext callbackContext) {
+        final PartBuffer partBuffer = new PartBuffer(minPartBytes + minPartBytes / 4);
+        for (int parts = 0; parts < maxParts; parts++) {
+            partBuffer.reset();
+            String nextToken = callbackContext.getFaceExportCursor();
+            long faces = 0;
+
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(partBuffer), StandardCharsets.UTF_8)) {
+                do {
+                    final ListFacesResponse page = listFaces(collectionId, nextToken);
+                    for (Face face : page.faces()) {
+                        writeFace(writer, face);
+                    }
+                    faces += page.faces().size();
+                    nextToken = page.nextToken();
+                    writer.flush();
+                } while (nextToken != null && partBuffer.size() < minPartBytes);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (callbackContext.getFaceExportUploadId() == null) {
+                startUpload(collectionId, destination, callbackContext);
+            }
+            uploadPart(destination, callbackContext, partBuffer);
+            callbackContext.setFaceExportCursor(nextToken);
+            callbackContext.setExportedFaces(callbackContext.getExportedFaces() + faces);
+
+            if (nextToken == null) {
+                completeUpload(destination, callbackContext);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void startUpload(final String collectionId,
+                             final S3Destination destination,
+                             final CallbackContext callbackContext) {
+        final String key = String.format(OBJECT_KEY_FORMAT,
+            destination.getKeyPrefix() == null ? "" : destination.getKeyPrefix(),
+            collectionId,
+            Instant.now().toEpochMilli());
+
+        final CreateMultipartUploadRequest createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
+            .bucket(destination.getBucket())
+            .key(key)
+            .contentType("application/x-ndjson")
+            .contentEncoding("gzip")
+            .build();
+        final CreateMultipartUploadResponse response = s3ProxyClient.injectCredentialsAndInvokeV2(
+            createMultipartUploadRequest, s3ProxyClient.client()::createMultipartUpload);
+
+        logger.info(() -> String.format("Exporting face metadata of %s to s3://%s/%s", collectionId, destination.getBucket(), key));
+        callbackContext.setFaceExportKey(key);
+        callbackContext.setFaceExportUploadId(response.uploadId());
+        callbackContext.setFaceExportPartETags(new ArrayList<>());
+    }
+
+    private void restartExport(final S3Destination destination,
+                               final CallbackContext callbackContext,
+                               final RuntimeException e) {
+        logger.info(() -> String.format("Restarting face metadata export to s3://%s/%s: %s",
+            destination.getBucket(), callbackContext.getFaceExportKey(), e.getMessage()));
+        abortUpload(destination, callbackContext);
+
+        callbackContext.setFaceExportKey(null);
+        callbackContext.setFaceExportUploadId(null);
+        callbackContext.setFaceExportCursor(null);
+        callbackContext.setFaceExportPartETags(new ArrayList<>());
+        callbackContext.setExportedFaces(0);
+    }
+
+    private void abortUpload(final S3Destination destination, final CallbackContext callbackContext) {
+        if (callbackContext.getFaceExportUploadId() == null) {
+            return;
+        }
+        final AbortMultipartUploadRequest abortMultipartUploadRequest = AbortMultipartUploadRequest.builder()
+            .bucket(destination.getBucket())
+            .key(callbackContext.getFaceExportKey())
+            .uploadId(callbackContext.getFaceExportUploadId())
+            .build();
+        try {
+            s3ProxyClient.injectCredentialsAndInvokeV2(
+                abortMultipartUploadRequest, s3ProxyClient.client()::abortMultipartUpload);
+        } catch (final NoSuchUploadException ignored) {
+            // Already aborted by an earlier attempt, or by a bucket lifecycle rule
+        }
+    }
+
+    private void uploadPart(final S3Destination destination,
+                            final CallbackContext callbackContext,
+                            final PartBuffer part) {
+        final List<String> partETags = callbackContext.getFaceExportPartETags();
+        final UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+            .bucket(destination.getBucket())
+            .key(callbackContext.getFaceExportKey())
+            .uploadId(callbackContext.getFaceExportUploadId())
+            .partNumber(partETags.size() + 1)
+            .contentLength((long) part.size())
+            .build();
+        final UploadPartResponse response = s3ProxyClient.injectCredentialsAndInvokeV2(
+            uploadPartRequest, request -> s3ProxyClient.client().uploadPart(request, part.toRequestBody()));
+        partETags.add(response.eTag());
+    }
+
+    private void completeUpload(final S3Destination destination, final CallbackContext callbackContext) {
+        final List<String> partETags = callbackContext.getFaceExportPartETags();
+        final List<CompletedPart> completedParts = new ArrayList<>(partETags.size());
+        for (int i = 0; i < partETags.size(); i++) {
+            completedParts.add(CompletedPart.builder().partNumber(i + 1).eTag(partETags.get(i)).build());
+        }
+
+        final CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
+            .bucket(destination.getBucket())
+            .key(callbackContext.getFaceExportKey())
+            .uploadId(callbackContext.getFaceExportUploadId())
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+            .build();
+        s3ProxyClient.injectCredentialsAndInvokeV2(
+            completeMultipartUploadRequest, s3ProxyClient.client()::completeMultipartUpload);
+    }
+
+    private ListFacesResponse listFaces(final String collectionId, final String nextToken) {
+        final ListFacesRequest listFacesRequest = ListFacesRequest.builder()
+            .collectionId(collectionId)
+            .maxResults(LIST_FACES_PAGE_SIZE)
+            .nextToken(nextToken)
+            .build();
+        return rekognitionProxyClient.injectCredentialsAndInvokeV2(listFacesRequest, rekognitionProxyClient.client()::listFaces);
+    }
+
+    private static void writeFace(final Writer writer, final Face face) throws IOException {
+        writer.write("{\"FaceId\":");
+        writeJsonString(writer, face.faceId());
+        writer.write(",\"ExternalImageId\":");
+        writeJsonString(writer, face.externalImageId());
+        writer.write(",\"ImageId\":");
+        writeJsonString(writer, face.imageId());
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(final Writer writer, final String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * The part being built, uploaded from its own array rather than a copy of it. The request body is only valid
+     * until the buffer is reset for the next part.
+     */
+    private static final class PartBuffer extends ByteArrayOutputStream {
+
+        PartBuffer(final int size) {
+            super(size);
+        }
+
+        RequestBody toRequestBody() {
+            final byte[] bytes = buf;
+            final int length = count;
+            return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes, 0, length), length,
+                "application/octet-stream");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package software.amazon.rekognition.collection;
+
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.Face;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Deletes the faces of a collection so that the final DeleteCollection is fast.
+ * <p>
+ * Face ids are listed one ListFaces page at a time and every page is sent as one DeleteFaces batch, while
+ * the next page is listed. At most maxConcurrency batches are in flight, so memory is bounded by
+ * maxConcurrency pages. A call stops after maxBatches batches and returns the ListFaces token to resume from.
+ */
+class FacePurger {
+
+    // Largest page for ListFaces and largest FaceIds list for DeleteFaces
+    static final int MAX_BATCH_SIZE = 4096;
+    static final int DEFAULT_MAX_CONCURRENCY = 4;
+    static final int DEFAULT_MAX_BATCHES = 50;
+
+    private final ProxyClient<RekognitionClient> proxyClient;
+    private final HandlerLogger logger;
+    private final int maxConcurrency;
+    private final int maxBatches;
+
+    FacePurger(final ProxyClient<RekognitionClient> proxyClient, final Logger logger) {
+        this(proxyClient, logger, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_BATCHES);
+    }
+
+    FacePurger(final ProxyClient<RekognitionClient> proxyClient,
+               final Logger logger,
+               final int maxConcurrency,
+               final int maxBatches) {
+        this.proxyClient = proxyClient;
+        this.logger = HandlerLogger.of(logger);
+        this.maxConcurrency = maxConcurrency;
+        this.maxBatches = maxBatches;
+    }
+
+    @lombok.Getter
+    @lombok.ToString
+    static class Result {
+        private long deletedFaces = 0;
+        private String cursor;
+        private boolean complete = false;
+    }
+
+    /**
+     * Deletes up to maxBatches pages of faces, starting at the given cursor.
+     *
+     * @param collectionId the collection to purge
+     * @param cursor the ListFaces token returned by the previous call, or null to start from the first page
+     * @return the number of deleted faces, the cursor to resume from, and whether the collection was found empty
+     */
+    Result purge(final String collectionId, final String cursor) {
+        final Result result = new Result();
+        final Deque<Future<Integer>> inFlight = new ArrayDeque<>(maxConcurrency);
+        final ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency);
+        String nextToken = cursor;
+        boolean foundFaces = false;
+        boolean restart = false;
+        int batches = 0;
+
+        try {
+            do {
+                final ListFacesResponse page;
+                try {
+                    page = listFaces(collectionId, nextToken);
+                } catch (final InvalidPaginationTokenException e) {
+                    // Tokens do not survive every change to the collection, so the next call starts over
+                    logger.info(() -> String.format("Restarting face purge of %s: %s", collectionId, e.getMessage()));
+                    nextToken = null;
+                    restart = true;
+                    break;
+                }
+
+                final List<String> faceIds = new ArrayList<>(page.faces().size());
+                for (Face face : page.faces()) {
+                    faceIds.add(face.faceId());
+                }
+
+                if (!faceIds.isEmpty()) {
+                    if (inFlight.size() >= maxConcurrency) {
+                        result.deletedFaces += inFlight.removeFirst().get();
+                    }
+                    inFlight.addLast(executor.submit(() -> deleteFaces(collectionId, faceIds)));
+                    foundFaces = true;
+                    batches++;
+                }
+                nextToken = page.nextToken();
+            } while (nextToken != null && batches < maxBatches);
+
+            while (!inFlight.isEmpty()) {
+                result.deletedFaces += inFlight.removeFirst().get();
+            }
+        } catch (final ExecutionException e) {
+            throw RateLimitedExecutor.unwrap(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // A pass that reached the last page is only trusted once a pass finds no faces at all
+        result.cursor = nextToken;
+        result.complete = nextToken == null && !foundFaces && !restart;
+
+        logger.info(() -> String.format("Face purge of %s: %s", collectionId, result));
+        return result;
+    }
+
+    private ListFacesResponse listFaces(final String collectionId, final String nextToken) {
+        final ListFacesRequest listFacesRequest = ListFacesRequest.builder()
+            .collectionId(collectionId)
+            .maxResults(MAX_BATCH_SIZE)
+            .nextToken(nextToken)
+            .build();
+        return proxyClient.injectCredentialsAndInvokeV2(listFacesRequest, proxyClient.client()::listFaces);
+    }
+
+    private Integer deleteFaces(final String collectionId, final List<String> faceIds) {
+        final DeleteFacesRequest deleteFacesRequest = DeleteFacesRequest.builder()
+            .collectionId(collectionId)
+            .faceIds(faceIds)
+            .build();
+        final DeleteFacesResponse response =
+            proxyClient.injectCredentialsAndInvokeV2(deleteFacesRequest, proxyClient.client()::deleteFaces);
+        return response.deletedFaces().size();
+    }
+}
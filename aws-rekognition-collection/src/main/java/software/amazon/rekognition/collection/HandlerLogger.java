@@ -0,0 +1,212 @@
+package software.amazon.rekognition.collection;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Logging with levels and a size budget for one handler invocation, on top of the {@link Logger} of the wrapper.
+ * <p>
+ * Messages below {@code -Drekognition.logLevel}, INFO by default, are dropped before they are built: the
+ * {@link Supplier} overloads only run when the message is written. DEBUG messages are also written for a sample of
+ * the invocations, set with {@code -Drekognition.debugLogSampleRate} (0.01 by default). A sampled invocation writes
+ * all its DEBUG messages, so its service calls can be followed from start to end.
+ * <p>
+ * DEBUG and INFO messages share a budget of {@code -Drekognition.logBudgetBytes} bytes per invocation, 4096 by
+ * default, counted as the UTF-8 size of the messages. Once it is spent they are dropped, and {@link #finish()} writes how many were. WARN and ERROR messages
+ * are always written. The budget is shared by the concurrent calls of {@link CollectionSeeder}, so it is only
+ * read and spent under the lock of the logger.
+ * <p>
+ * Requests are logged with their key fields by {@link #describe}, never with their {@code toString()}, which
+ * renders every tag.
+ */
+final class HandlerLogger implements Logger {
+
+    static final String LEVEL_PROPERTY = "rekognition.logLevel";
+    static final String BUDGET_PROPERTY = "rekognition.logBudgetBytes";
+    static final String SAMPLE_RATE_PROPERTY = "rekognition.debugLogSampleRate";
+
+    private static final Level LEVEL = parseLevel(System.getProperty(LEVEL_PROPERTY));
+    private static final int BUDGET = Integer.getInteger(BUDGET_PROPERTY, 4096);
+    private static final double SAMPLE_RATE = parseSampleRate(System.getProperty(SAMPLE_RATE_PROPERTY));
+
+    enum Level {
+        DEBUG("[DEBUG] "),
+        INFO("[INFO] "),
+        WARN("[WARN] "),
+        ERROR("[ERROR] ");
+
+        private final String prefix;
+
+        Level(final String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final Logger delegate;
+    private final Level level;
+    private final boolean debugSampled;
+    private int remainingBudget;
+    private int droppedMessages;
+
+    HandlerLogger(final Logger delegate, final Level level, final int budget, final boolean debugSampled) {
+        this.delegate = delegate;
+        this.level = level;
+        this.remainingBudget = budget;
+        this.debugSampled = debugSampled;
+    }
+
+    /**
+     * @return the logger itself if it already is a HandlerLogger, so that the handlers an invocation calls share
+     *     its budget, or a new one over it configured from the system properties
+     */
+    static HandlerLogger of(final Logger logger) {
+        if (logger instanceof HandlerLogger) {
+            return (HandlerLogger) logger;
+        }
+        final boolean sampled = SAMPLE_RATE > 0 && ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE;
+        return new HandlerLogger(logger, LEVEL, BUDGET, sampled);
+    }
+
+    boolean isEnabled(final Level messageLevel) {
+        return messageLevel.compareTo(level) >= 0 || (messageLevel == Level.DEBUG && debugSampled);
+    }
+
+    /**
+     * Logs at INFO, for the helpers that take a plain {@link Logger}.
+     */
+    @Override
+    public void log(final String message) {
+        info(message);
+    }
+
+    void debug(final Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    void info(final String message) {
+        if (isEnabled(Level.INFO)) {
+            write(Level.INFO, message);
+        }
+    }
+
+    void info(final Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    void warn(final String message) {
+        if (isEnabled(Level.WARN)) {
+            write(Level.WARN, message);
+        }
+    }
+
+    /**
+     * Writes how many messages were dropped over the budget, if any. Called once at the end of the invocation.
+     */
+    synchronized void finish() {
+        if (droppedMessages > 0) {
+            delegate.log(Level.WARN.prefix + "Dropped " + droppedMessages + " log messages over the budget");
+            droppedMessages = 0;
+        }
+    }
+
+    private synchronized void log(final Level messageLevel, final Supplier<String> message) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        if (remainingBudget <= 0) {
+            // Not even built: the budget is spent whatever its size
+            droppedMessages++;
+            return;
+        }
+        write(messageLevel, message.get());
+    }
+
+    private synchronized void write(final Level messageLevel, final String message) {
+        if (messageLevel.compareTo(Level.WARN) < 0) {
+            final int size = utf8Length(message);
+            if (size > remainingBudget) {
+                droppedMessages++;
+                return;
+            }
+            remainingBudget -= size;
+        }
+        delegate.log(messageLevel.prefix + message);
+    }
+
+    /**
+     * @return the size of the message encoded as UTF-8, without encoding it
+     */
+    static int utf8Length(final String message) {
+        int size = 0;
+        for (int i = 0; i < message.length(); i++) {
+            final char c = message.charAt(i);
+            if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < message.length()
+                && Character.isLowSurrogate(message.charAt(i + 1))) {
+                // A supplementary character, 4 bytes for the pair
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the fields that identify a handler request, with the number of tags rather than the tags
+     */
+    static String describe(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel model = request.getDesiredResourceState();
+        final Map<String, String> resourceTags = request.getDesiredResourceTags();
+        return "CollectionId=" + (model == null ? null : model.getCollectionId())
+            + ", LogicalResourceId=" + request.getLogicalResourceIdentifier()
+            + ", ClientRequestToken=" + request.getClientRequestToken()
+            + ", Tags=" + (model == null || model.getTags() == null ? 0 : model.getTags().size())
+            + ", ResourceTags=" + (resourceTags == null ? 0 : resourceTags.size());
+    }
+
+    /**
+     * @return the request type with the collection or resource it is for, e.g.
+     *     {@code DescribeCollectionRequest(CollectionId=faces)}
+     */
+    static String describe(final SdkRequest request) {
+        final StringBuilder description = new StringBuilder(request.getClass().getSimpleName()).append('(');
+        request.getValueForField("CollectionId", String.class)
+            .ifPresent(collectionId -> description.append("CollectionId=").append(collectionId));
+        request.getValueForField("ResourceArn", String.class)
+            .ifPresent(resourceArn -> description.append("ResourceArn=").append(resourceArn));
+        return description.append(')').toString();
+    }
+
+    private static Level parseLevel(final String value) {
+        if (value != null) {
+            for (Level candidate : Level.values()) {
+                if (candidate.name().equals(value.toUpperCase(Locale.ROOT))) {
+                    return candidate;
+                }
+            }
+        }
+        return Level.INFO;
+    }
+
+    private static double parseSampleRate(final String value) {
+        if (value == null) {
+            return 0.01;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (final NumberFormatException e) {
+            return 0.01;
+        }
+    }
+}
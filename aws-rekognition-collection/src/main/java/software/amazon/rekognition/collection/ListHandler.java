@@ -13,7 +13,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
-    private Logger logger;
+    private HandlerLogger logger;
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,16 +23,16 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
-        logger.log(String.format("Cfn Request: %s", request));
+        this.logger.info(() -> "Cfn Request: " + HandlerLogger.describe(request));
 
         return proxy.initiate("AWS-Rekognition-Collection::ListCollections", proxyClient, request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(r -> Translator.translateToListRequest(request.getNextToken()))
             .makeServiceCall(this::listCollections)
             .done(response ->
                 ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(Translator.translateFromListResponse(response))
+                    .resourceModels(Translator.translateFromListResponse(response, request))
                     .status(OperationStatus.SUCCESS)
                     .nextToken(response.nextToken())
                     .build());
@@ -43,9 +43,9 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             ListCollectionsResponse response = client.injectCredentialsAndInvokeV2(request, client.client()::listCollections);
-            logger.log(String.format("%s successfully Listed.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " successfully Listed.");
             return response;
         } catch (final AwsServiceException e) {
             throw this.handlerError(e, logger);
@@ -0,0 +1,222 @@
+package software.amazon.rekognition.collection;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.TagResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceResponse;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Optional priming of the Rekognition client during init, so that the first invocation of a container does not
+ * pay for it.
+ * <p>
+ * With {@code -Drekognition.primeOnInit=true} every request the handlers send is built by {@link Translator} or the
+ * helper that builds it in the handlers, and sent through a client configured like the handlers' own. An
+ * interceptor stops each call once it is marshalled and signed, before anything is sent, so the marshallers,
+ * endpoint resolution and signer are loaded and run without calling Rekognition. The response types are loaded
+ * and translated too. Response unmarshalling still happens on the first real call.
+ * <p>
+ * With {@code -Drekognition.primeConnection=true} as well, it also opens a connection to the endpoint through the
+ * shared HTTP client, so DNS and the TLS handshake are done and the connection waits in the pool for the first
+ * call. Priming never fails init: if it cannot run, for example without a region, it logs one line saying so.
+ */
+final class Primer {
+
+    static final String PRIME_PROPERTY = "rekognition.primeOnInit";
+    static final String PRIME_CONNECTION_PROPERTY = "rekognition.primeConnection";
+
+    // Signing needs credentials; the handlers' own come with each request
+    private static final StaticCredentialsProvider PRIMING_CREDENTIALS =
+        StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming"));
+    private static final String PRIMING_NAME = "priming";
+    private static final AtomicBoolean PRIMED = new AtomicBoolean();
+
+    private Primer() {
+    }
+
+    /**
+     * Primes once per JVM when {@value #PRIME_PROPERTY} is set.
+     */
+    static void primeOnInit() {
+        if (!Boolean.getBoolean(PRIME_PROPERTY) || !PRIMED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            prime(Boolean.getBoolean(PRIME_CONNECTION_PROPERTY));
+        } catch (final RuntimeException | IOException e) {
+            LambdaRuntime.log(String.format("Skipped priming the Rekognition client: %s", e));
+        }
+    }
+
+    /**
+     * @param connect whether to open a connection to the endpoint as well
+     * @return the number of requests marshalled
+     */
+    static int prime(final boolean connect) throws IOException {
+        final StopBeforeTransmission interceptor = new StopBeforeTransmission();
+        final int marshalled;
+        try (RekognitionClient client = ClientBuilder.rekognitionClientBuilder(
+                ClientOverrideConfiguration.builder().addExecutionInterceptor(interceptor))
+            .credentialsProvider(PRIMING_CREDENTIALS)
+            .build()) {
+            marshalled = marshal(client);
+        }
+        translateResponses();
+        if (connect && interceptor.signedRequest != null) {
+            connect(ClientBuilder.httpClient(), interceptor.signedRequest);
+        }
+        return marshalled;
+    }
+
+    private static int marshal(final RekognitionClient client) {
+        final ResourceModel model = primingModel();
+        final ResourceHandlerRequest<ResourceModel> request = primingRequest(model);
+        final List<Runnable> calls = Arrays.asList(
+            () -> client.createCollection(Translator.translateToCreateRequest(model, request)),
+            () -> client.describeCollection(Translator.translateToReadRequest(model)),
+            () -> client.listTagsForResource(Translator.translateToListTagsRequest(model)),
+            () -> client.tagResource(Translator.tagResourceRequest(model,
+                Collections.singletonMap(PRIMING_NAME, PRIMING_NAME))),
+            () -> client.untagResource(Translator.untagResourceRequest(model, Collections.singleton(PRIMING_NAME))),
+            () -> client.listCollections(Translator.translateToListRequest(null)),
+            () -> client.deleteCollection(Translator.translateToDeleteRequest(model)),
+            () -> client.indexFaces(CollectionSeeder.toIndexFacesRequest(PRIMING_NAME, "s3://priming/priming")),
+            () -> client.listFaces(ListFacesRequest.builder()
+                .collectionId(PRIMING_NAME)
+                .maxResults(FacePurger.MAX_BATCH_SIZE)
+                .build()),
+            () -> client.deleteFaces(DeleteFacesRequest.builder()
+                .collectionId(PRIMING_NAME)
+                .faceIds(PRIMING_NAME)
+                .build()));
+        for (Runnable call : calls) {
+            try {
+                call.run();
+                throw new IllegalStateException("A priming call was not stopped before transmission");
+            } catch (final RuntimeException e) {
+                if (!stoppedByPrimer(e)) {
+                    throw e;
+                }
+            }
+        }
+        return calls.size();
+    }
+
+    private static void translateResponses() {
+        final ResourceModel model = primingModel();
+        CreateCollectionResponse.builder().build();
+        DeleteCollectionResponse.builder().build();
+        TagResourceResponse.builder().build();
+        UntagResourceResponse.builder().build();
+        IndexFacesResponse.builder().build();
+        ListFacesResponse.builder().build();
+        DeleteFacesResponse.builder().build();
+        Translator.translateFromDescribeResponse(DescribeCollectionResponse.builder().build(), model);
+        Translator.translateFromListTagsResponse(ListTagsForResourceResponse.builder().build(), model,
+            primingRequest(model));
+        Translator.translateFromListResponse(ListCollectionsResponse.builder()
+            .collectionIds(PRIMING_NAME)
+            .build(), primingRequest(model));
+    }
+
+    /**
+     * Sends a request to the root of the endpoint and reads the response, whatever its status, so that the
+     * connection goes back to the pool.
+     */
+    private static void connect(final SdkHttpClient httpClient, final SdkHttpRequest signedRequest)
+        throws IOException {
+        final SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+            .method(SdkHttpMethod.GET)
+            .protocol(signedRequest.protocol())
+            .host(signedRequest.host())
+            .port(signedRequest.port())
+            .encodedPath("/")
+            .build();
+        final HttpExecuteResponse response = httpClient
+            .prepareRequest(HttpExecuteRequest.builder().request(request).build())
+            .call();
+        if (response.responseBody().isPresent()) {
+            try (AbortableInputStream body = response.responseBody().get()) {
+                IoUtils.drainInputStream(body);
+            }
+        }
+    }
+
+    private static ResourceModel primingModel() {
+        return ResourceModel.builder()
+            .collectionId(PRIMING_NAME)
+            .arn("arn:aws:rekognition:us-east-1:123456789012:collection/priming")
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> primingRequest(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .awsPartition("aws")
+            .region("us-east-1")
+            .awsAccountId("123456789012")
+            .build();
+    }
+
+    private static boolean stoppedByPrimer(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PrimingStop) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the signed request and stops the call, which is not retried as it is not an SdkException.
+     */
+    private static final class StopBeforeTransmission implements ExecutionInterceptor {
+
+        private volatile SdkHttpRequest signedRequest;
+
+        @Override
+        public void beforeTransmission(final Context.BeforeTransmission context,
+                                       final ExecutionAttributes executionAttributes) {
+            signedRequest = context.httpRequest();
+            throw new PrimingStop();
+        }
+    }
+
+    private static final class PrimingStop extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        PrimingStop() {
+            super("Stopped after marshalling and signing", null, false, false);
+        }
+    }
+}
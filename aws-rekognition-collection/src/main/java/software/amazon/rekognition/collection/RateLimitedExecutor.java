@@ -0,0 +1,82 @@
+package software.amazon.rekognition.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs service requests concurrently on a small thread pool, with their start times spaced out to stay under a
+ * request rate limit. Each request takes a permit with {@link #acquirePermit()} right before its service call.
+ */
+final class RateLimitedExecutor {
+
+    private final int maxConcurrency;
+    private final long permitIntervalNanos;
+    private long nextPermitNanos;
+
+    RateLimitedExecutor(final int maxConcurrency, final int maxRequestsPerSecond) {
+        this.maxConcurrency = maxConcurrency;
+        this.permitIntervalNanos = TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond;
+        this.nextPermitNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs the requests on at most maxConcurrency threads and waits for all of them.
+     *
+     * @throws RuntimeException the exception of the first failed request, in submission order
+     */
+    void runAll(final List<Callable<Void>> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrency, requests.size()));
+        try {
+            final List<Future<Void>> futures = new ArrayList<>(requests.size());
+            for (Callable<Void> request : requests) {
+                futures.add(executor.submit(request));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (final ExecutionException e) {
+            throw unwrap(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Blocks until the next request may start, spacing request starts permitIntervalNanos apart.
+     */
+    void acquirePermit() throws InterruptedException {
+        final long waitNanos;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            final long permitNanos = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitNanos + permitIntervalNanos;
+            waitNanos = permitNanos - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * @return the exception a request run on a pool failed with, so the handler maps it like a direct call
+     */
+    static RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+}
@@ -14,7 +14,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
 
-    private Logger logger;
+    private HandlerLogger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,9 +23,9 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
 
-        logger.log(String.format("Cfn Request: %s", request));
+        this.logger.info(() -> "Cfn Request: " + HandlerLogger.describe(request));
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
@@ -38,7 +38,7 @@ public class ReadHandler extends BaseHandlerStd {
                 proxy.initiate("AWS-Rekognition-Collection::ListTagsForResource", proxyClient, progress.getResourceModel(), callbackContext)
                     .translateToServiceRequest(Translator::translateToListTagsRequest)
                     .makeServiceCall(this::listTagsForCollection)
-                    .done(response -> ProgressEvent.defaultSuccessHandler(Translator.translateFromListTagsResponse(response, progress.getResourceModel())))
+                    .done(response -> ProgressEvent.defaultSuccessHandler(Translator.translateFromListTagsResponse(response, progress.getResourceModel(), request)))
             );
     }
 
@@ -47,10 +47,10 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             DescribeCollectionResponse response = client
                 .injectCredentialsAndInvokeV2(request, client.client()::describeCollection);
-            logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " has successfully been read.");
             return response;
         } catch (final AwsServiceException e) {
             throw this.handlerError(e, logger);
@@ -62,10 +62,10 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             ListTagsForResourceResponse response = client
                 .injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
-            logger.log(String.format("%s Tags have successfully been read.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " Tags have successfully been read.");
             return response;
         } catch (final AwsServiceException e) {
             throw this.handlerError(e, logger);
@@ -0,0 +1,119 @@
+package software.amazon.rekognition.collection;
+
+import org.json.JSONObject;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.regex.Pattern;
+
+/**
+ * Checks a ResourceModel against the patterns, length limits and item counts of aws-rekognition-collection.json,
+ * so invalid input fails with CfnInvalidRequestException before any API call instead of coming back as an
+ * InvalidParameterException. The constraints are read from the schema and compiled once per container.
+ */
+final class ResourceModelValidator {
+
+    private static final JSONObject SCHEMA = new Configuration().resourceSchemaJsonObject();
+    private static final JSONObject DEFINITIONS = SCHEMA.getJSONObject("definitions");
+
+    private static final StringConstraint COLLECTION_ID =
+        StringConstraint.from("CollectionId", DEFINITIONS.getJSONObject("CollectionId"));
+    private static final StringConstraint TAG_KEY =
+        StringConstraint.from("Tag Key", property("Tag", "Key"));
+    private static final StringConstraint TAG_VALUE =
+        StringConstraint.from("Tag Value", property("Tag", "Value"));
+    private static final int MAX_TAGS =
+        SCHEMA.getJSONObject("properties").getJSONObject("Tags").optInt("maxItems", Integer.MAX_VALUE);
+    private static final StringConstraint SEED_MANIFEST_BUCKET =
+        StringConstraint.from("SeedManifest Bucket", property("S3Object", "Bucket"));
+    private static final StringConstraint SEED_MANIFEST_KEY =
+        StringConstraint.from("SeedManifest Key", property("S3Object", "Key"));
+    private static final StringConstraint EXPORT_BUCKET =
+        StringConstraint.from("FaceMetadataExport Bucket", property("S3Destination", "Bucket"));
+    private static final StringConstraint EXPORT_KEY_PREFIX =
+        StringConstraint.from("FaceMetadataExport KeyPrefix", property("S3Destination", "KeyPrefix"));
+
+    private ResourceModelValidator() {
+    }
+
+    /**
+     * Validates the user-supplied properties of a model.
+     *
+     * @param model the desired resource state
+     * @throws CfnInvalidRequestException if a property violates the resource schema
+     */
+    static void validate(final ResourceModel model) {
+        if (model == null || model.getCollectionId() == null) {
+            throw new CfnInvalidRequestException("CollectionId is required");
+        }
+        COLLECTION_ID.check(model.getCollectionId());
+
+        if (model.getTags() != null) {
+            if (model.getTags().size() > MAX_TAGS) {
+                throw new CfnInvalidRequestException(
+                    String.format("Tags has %d items, at most %d are allowed", model.getTags().size(), MAX_TAGS));
+            }
+            for (Tag tag : model.getTags()) {
+                TAG_KEY.check(tag.getKey());
+                TAG_VALUE.check(tag.getValue());
+            }
+        }
+
+        if (model.getSeedManifest() != null) {
+            SEED_MANIFEST_BUCKET.check(model.getSeedManifest().getBucket());
+            SEED_MANIFEST_KEY.check(model.getSeedManifest().getKey());
+        }
+
+        if (model.getFaceMetadataExport() != null) {
+            EXPORT_BUCKET.check(model.getFaceMetadataExport().getBucket());
+            EXPORT_KEY_PREFIX.check(model.getFaceMetadataExport().getKeyPrefix());
+        }
+    }
+
+    private static JSONObject property(final String definition, final String property) {
+        return DEFINITIONS.getJSONObject(definition).getJSONObject("properties").getJSONObject(property);
+    }
+
+    /**
+     * The minLength, maxLength and pattern of a string property. The pattern has to match the whole value, as the
+     * service checks it, even where the schema leaves it unanchored. Lengths count code points.
+     */
+    static final class StringConstraint {
+        private final String name;
+        private final int minLength;
+        private final int maxLength;
+        private final Pattern pattern;
+
+        private StringConstraint(final String name, final int minLength, final int maxLength, final Pattern pattern) {
+            this.name = name;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.pattern = pattern;
+        }
+
+        static StringConstraint from(final String name, final JSONObject schema) {
+            return new StringConstraint(
+                name,
+                schema.optInt("minLength", 0),
+                schema.optInt("maxLength", Integer.MAX_VALUE),
+                schema.has("pattern") ? Pattern.compile(schema.getString("pattern")) : null);
+        }
+
+        /**
+         * Checks a value, a null value is left to the required checks.
+         */
+        void check(final String value) {
+            if (value == null) {
+                return;
+            }
+            final int length = value.codePointCount(0, value.length());
+            if (length < minLength || length > maxLength) {
+                throw new CfnInvalidRequestException(String.format(
+                    "%s must be %d to %d characters long: %s", name, minLength, maxLength, value));
+            }
+            if (pattern != null && !pattern.matcher(value).matches()) {
+                throw new CfnInvalidRequestException(String.format(
+                    "%s must match %s: %s", name, pattern.pattern(), value));
+            }
+        }
+    }
+}
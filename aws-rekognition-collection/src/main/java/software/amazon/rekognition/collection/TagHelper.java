@@ -14,6 +14,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 public class TagHelper {
+    private static final String SYSTEM_TAG_PREFIX = "aws:";
+
     /**
      * convertToMap
      * <p>
@@ -64,11 +66,20 @@ public class TagHelper {
      * generateTagsForCreate
      * <p>
      * Generate tags to put into resource creation request.
-     * This includes user defined tags and system tags as well.
+     * This includes system tags, stack tags and user defined tags, so the collection is created fully tagged
+     * and no TagResource call is needed afterwards. Resource tags win over stack tags with the same key.
      */
     public final Map<String, String> generateTagsForCreate(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
         final Map<String, String> tagMap = new HashMap<>();
 
+        if (handlerRequest.getSystemTags() != null) {
+            tagMap.putAll(handlerRequest.getSystemTags());
+        }
+
+        if (handlerRequest.getDesiredResourceTags() != null) {
+            tagMap.putAll(handlerRequest.getDesiredResourceTags());
+        }
+
         if (resourceModel.getTags() != null) {
             tagMap.putAll(convertToMap(resourceModel.getTags()));
         }
@@ -76,6 +87,33 @@ public class TagHelper {
         return Collections.unmodifiableMap(tagMap);
     }
 
+    /**
+     * getResourceDefinedTags
+     * <p>
+     * Removes the tags CreateCollection attached for CloudFormation rather than for the template: system tags
+     * (aws: prefix) and the stack tags, which are the request's desired resource tags. A stack tag key that the
+     * resource's own Tags also declare belongs to the resource and is kept, whatever its value. Read then returns
+     * only the tags the template declares.
+     */
+    public static Map<String, String> getResourceDefinedTags(final Map<String, String> attachedTags, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+        if (MapUtils.isEmpty(attachedTags)) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> stackTags = handlerRequest.getDesiredResourceTags() == null
+            ? Collections.emptyMap()
+            : handlerRequest.getDesiredResourceTags();
+        final Set<String> resourceTagKeys = handlerRequest.getDesiredResourceState() == null
+            ? Collections.emptySet()
+            : convertToMap(handlerRequest.getDesiredResourceState().getTags()).keySet();
+        return attachedTags.entrySet().stream()
+            .filter(tag -> !tag.getKey().startsWith(SYSTEM_TAG_PREFIX))
+            .filter(tag -> !stackTags.containsKey(tag.getKey()) || resourceTagKeys.contains(tag.getKey()))
+            .filter(tag -> tag.getValue() != null)
+            .collect(Collectors.toMap(
+                Map.Entry::getKey,
+                Map.Entry::getValue));
+    }
+
     /**
      * shouldUpdateTags
      * <p>
@@ -93,19 +131,37 @@ public class TagHelper {
      * If stack tags and resource tags are not merged together in Configuration class,
      * we will get previous attached user defined tags from both handlerRequest.getPreviousResourceTags (stack tags)
      * and handlerRequest.getPreviousResourceState (resource tags).
+     * System tags are left out, they cannot be changed after creation.
      */
     public static Map<String, String> getPreviouslyAttachedTags(final ResourceHandlerRequest<ResourceModel> handlerRequest) {
-        return new HashMap<>(convertToMap(handlerRequest.getPreviousResourceState().getTags()));
+        final Map<String, String> previousTags = new HashMap<>();
+
+        if (handlerRequest.getPreviousResourceTags() != null) {
+            previousTags.putAll(handlerRequest.getPreviousResourceTags());
+        }
+
+        if (handlerRequest.getPreviousResourceState() != null) {
+            previousTags.putAll(convertToMap(handlerRequest.getPreviousResourceState().getTags()));
+        }
+
+        return previousTags;
     }
 
     /**
      * getNewDesiredTags
      * <p>
      * If stack tags and resource tags are not merged together in Configuration class,
-     * we will get new user defined tags from both resource model and previous stack tags.
+     * we will get new user defined tags from both resource model and desired stack tags.
      */
     public static  Map<String, String> getNewDesiredTags(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
-        return new HashMap<>(convertToMap(resourceModel.getTags()));
+        final Map<String, String> desiredTags = new HashMap<>();
+
+        if (handlerRequest.getDesiredResourceTags() != null) {
+            desiredTags.putAll(handlerRequest.getDesiredResourceTags());
+        }
+
+        desiredTags.putAll(convertToMap(resourceModel.getTags()));
+        return desiredTags;
     }
 
     /**
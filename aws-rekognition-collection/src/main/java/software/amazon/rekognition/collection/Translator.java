@@ -12,13 +12,11 @@ import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
 import software.amazon.awssdk.services.rekognition.model.UntagResourceRequest;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * This class is a centralized placeholder for
@@ -30,6 +28,7 @@ import java.util.stream.Stream;
 public class Translator {
 
     private static final Integer MAX_LIST_RESULTS = 50;
+    private static final String COLLECTION_ARN_FORMAT = "arn:%s:rekognition:%s:%s:collection/%s";
     private static final TagHelper tagHelper = new TagHelper();
 
     /**
@@ -69,9 +68,20 @@ public class Translator {
     ) {
         return previousModel.toBuilder()
             .arn(awsResponse.collectionARN())
+            .faceModelVersion(awsResponse.faceModelVersion())
+            .faceCount(toFaceCount(awsResponse.faceCount()))
+            .creationTimestamp(awsResponse.creationTimestamp() == null ? null : awsResponse.creationTimestamp().toString())
             .build();
     }
 
+    /**
+     * FaceCount is an integer in the resource schema, while the service returns a long. Counts beyond the int range
+     * are reported as Integer.MAX_VALUE rather than failing the read.
+     */
+    private static Integer toFaceCount(final Long faceCount) {
+        return faceCount == null ? null : (int) Math.min(faceCount, Integer.MAX_VALUE);
+    }
+
     /**
      * Request to delete a resource
      *
@@ -97,16 +107,19 @@ public class Translator {
     }
 
     /**
-     * Translates resource object from sdk into a resource model
+     * Translates resource object from sdk into a resource model.
+     * System and stack tags are left out, see {@link TagHelper#getResourceDefinedTags}.
      *
      * @param awsResponse the aws service describe resource response
+     * @param request the cloudformation handler request, with the stack tags
      * @return model resource model
      */
     static ResourceModel translateFromListTagsResponse(
         final ListTagsForResourceResponse awsResponse,
-        final ResourceModel previousResourceModel) {
+        final ResourceModel previousResourceModel,
+        final ResourceHandlerRequest<ResourceModel> request) {
         return previousResourceModel.toBuilder()
-            .tags(TagHelper.convertToSet(awsResponse.tags()))
+            .tags(TagHelper.convertToSet(TagHelper.getResourceDefinedTags(awsResponse.tags(), request)))
             .build();
     }
 
@@ -124,23 +137,46 @@ public class Translator {
     }
 
     /**
-     * Translates resource objects from sdk into a resource model (primary identifier only)
+     * Translates resource objects from sdk into a resource model.
+     * The Arn is synthesized from the request's partition, region and account, and the face model
+     * version is taken from the response's faceModelVersions list, which is parallel to collectionIds.
      *
-     * @param awsResponse the aws service describe resource response
+     * @param awsResponse the aws service list resources response
+     * @param request the cloudformation handler request
      * @return list of resource models
      */
-    static List<ResourceModel> translateFromListResponse(final ListCollectionsResponse awsResponse) {
-        return streamOfOrEmpty(awsResponse.collectionIds())
-            .map(resource -> ResourceModel.builder()
-                .collectionId(resource)
-                .build())
-            .collect(Collectors.toList());
+    static List<ResourceModel> translateFromListResponse(
+        final ListCollectionsResponse awsResponse,
+        final ResourceHandlerRequest<ResourceModel> request
+    ) {
+        final List<String> collectionIds = awsResponse.collectionIds();
+        final List<String> faceModelVersions = awsResponse.faceModelVersions();
+        if (collectionIds == null) {
+            return Collections.emptyList();
+        }
+
+        final List<ResourceModel> models = new ArrayList<>(collectionIds.size());
+        for (int i = 0; i < collectionIds.size(); i++) {
+            final String collectionId = collectionIds.get(i);
+            models.add(ResourceModel.builder()
+                .collectionId(collectionId)
+                .arn(buildCollectionArn(request, collectionId))
+                .faceModelVersion(faceModelVersions != null && i < faceModelVersions.size() ? faceModelVersions.get(i) : null)
+                .build());
+        }
+        return models;
     }
 
-    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-            .map(Collection::stream)
-            .orElseGet(Stream::empty);
+    /**
+     * Builds the collection Arn from the handler request, avoiding a DescribeCollection call per collection.
+     *
+     * @param request the cloudformation handler request
+     * @param collectionId the collection id
+     * @return arn:&lt;partition&gt;:rekognition:&lt;region&gt;:&lt;account&gt;:collection/&lt;id&gt;
+     */
+    static String buildCollectionArn(final ResourceHandlerRequest<ResourceModel> request, final String collectionId) {
+        return String.format(COLLECTION_ARN_FORMAT,
+            request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(), collectionId);
     }
 
     /**
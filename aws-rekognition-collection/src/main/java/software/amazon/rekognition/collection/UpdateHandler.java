@@ -18,7 +18,8 @@ import java.util.Map;
 import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ReadHandler readHandler = new ReadHandler();
+    private HandlerLogger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,17 +28,19 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        this.logger = HandlerLogger.of(logger);
+
+        ResourceModelValidator.validate(request.getDesiredResourceState());
 
         if (TagHelper.shouldUpdateTags(request.getDesiredResourceState(), request)) {
             return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> checkIfResourceExists(proxy, proxyClient, progress.getResourceModel(), request, callbackContext, logger))
-                .then(progress -> untagResource(proxy, proxyClient, progress.getResourceModel(), request, callbackContext, logger))
-                .then(progress -> tagResource(proxy, proxyClient, progress.getResourceModel(), request, callbackContext, logger))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> checkIfResourceExists(proxy, proxyClient, progress.getResourceModel(), request, callbackContext, this.logger))
+                .then(progress -> untagResource(proxy, proxyClient, progress.getResourceModel(), request, callbackContext, this.logger))
+                .then(progress -> tagResource(proxy, proxyClient, progress.getResourceModel(), request, callbackContext, this.logger))
+                .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, this.logger));
         }
 
-        return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        return readHandler.handleRequest(proxy, request, callbackContext, proxyClient, this.logger);
     }
 
     /**
@@ -50,9 +53,9 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> serviceClient,
         final ResourceModel resourceModel,
         final ResourceHandlerRequest<ResourceModel> handlerRequest,
-        final CallbackContext callbackContext, final Logger logger
+        final CallbackContext callbackContext, final HandlerLogger logger
     ) {
-        logger.log(String.format("[UPDATE][IN PROGRESS] Checking if resource: %s with AccountId: %s",
+        logger.info(() -> String.format("[UPDATE][IN PROGRESS] Checking if resource: %s with AccountId: %s",
             resourceModel.getCollectionId(), handlerRequest.getAwsAccountId()));
 
         return proxy.initiate("AWS-Rekognition-Collection::DescribeCollection", serviceClient, resourceModel, callbackContext)
@@ -66,10 +69,10 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             DescribeCollectionResponse response = client
                 .injectCredentialsAndInvokeV2(request, client.client()::describeCollection);
-            logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " has successfully been read.");
             return response;
         } catch (final AwsServiceException e) {
             throw this.handlerError(e, logger);
@@ -87,16 +90,16 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel resourceModel,
         final ResourceHandlerRequest<ResourceModel> handlerRequest,
         final CallbackContext callbackContext,
-        final Logger logger
+        final HandlerLogger logger
     ) {
-        logger.log(String.format("[UPDATE][IN PROGRESS] Going to remove tags for %s resource: %s with AccountId: %s",
+        logger.info(() -> String.format("[UPDATE][IN PROGRESS] Going to remove tags for %s resource: %s with AccountId: %s",
             ResourceModel.TYPE_NAME, resourceModel.getArn(), handlerRequest.getAwsAccountId()));
 
         final Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(handlerRequest);
         final Map<String, String> desiredTags = TagHelper.getNewDesiredTags(resourceModel, handlerRequest);
         final Set<String> tagsToRemove = TagHelper.generateTagsToRemove(previousTags, desiredTags);
         if (tagsToRemove.isEmpty()) {
-            logger.log(String.format("No tags to remove for %s.", resourceModel.getArn()));
+            logger.info(() -> String.format("No tags to remove for %s.", resourceModel.getArn()));
             return ProgressEvent.progress(resourceModel, callbackContext);
         }
 
@@ -117,16 +120,16 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel resourceModel,
         final ResourceHandlerRequest<ResourceModel> handlerRequest,
         final CallbackContext callbackContext,
-        final Logger logger
+        final HandlerLogger logger
     ) {
-        logger.log(String.format("[UPDATE][IN PROGRESS] Going to add tags for %s resource: %s with AccountId: %s",
+        logger.info(() -> String.format("[UPDATE][IN PROGRESS] Going to add tags for %s resource: %s with AccountId: %s",
             ResourceModel.TYPE_NAME, resourceModel.getArn(), handlerRequest.getAwsAccountId()));
 
         final Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(handlerRequest);
         final Map<String, String> desiredTags = TagHelper.getNewDesiredTags(resourceModel, handlerRequest);
         final Map<String, String> tagsToAdd = TagHelper.generateTagsToAdd(previousTags, desiredTags);
         if (tagsToAdd.isEmpty()) {
-            logger.log(String.format("No tags to add for %s.", resourceModel.getArn()));
+            logger.info(() -> String.format("No tags to add for %s.", resourceModel.getArn()));
             return ProgressEvent.progress(resourceModel, callbackContext);
         }
 
@@ -141,9 +144,9 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             UntagResourceResponse response = client.injectCredentialsAndInvokeV2(request, client.client()::untagResource);
-            logger.log(String.format("%s successfully removed Tags.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " successfully removed Tags.");
             return response;
 
         } catch (final AwsServiceException e) {
@@ -156,9 +159,9 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RekognitionClient> client
     ) {
         try {
-            logger.log(String.format("Service Request: %s", request));
+            logger.debug(() -> "Service Request: " + HandlerLogger.describe(request));
             TagResourceResponse response = client.injectCredentialsAndInvokeV2(request, client.client()::tagResource);
-            logger.log(String.format("%s successfully added Tags.", ResourceModel.TYPE_NAME));
+            logger.info(ResourceModel.TYPE_NAME + " successfully added Tags.");
             return response;
 
         } catch (final AwsServiceException e) {
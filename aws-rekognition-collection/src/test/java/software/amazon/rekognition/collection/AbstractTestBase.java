@@ -21,6 +21,9 @@ import java.util.function.Function;
 public class AbstractTestBase {
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy logger;
+    protected static final String TEST_PARTITION;
+    protected static final String TEST_REGION;
+    protected static final String TEST_ACCOUNT_ID;
     protected static final String TEST_COLLECTION_NAME;
     protected static final String TEST_COLLECTION_ARN;
     protected static final String TEST_FACE_MODEL_VERSION;
@@ -32,8 +35,11 @@ public class AbstractTestBase {
     static {
         MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
         logger = new LoggerProxy();
+        TEST_PARTITION = "aws";
+        TEST_REGION = "us-east-1";
+        TEST_ACCOUNT_ID = "545579126031";
         TEST_COLLECTION_NAME = "test";
-        TEST_COLLECTION_ARN = String.format("arn:aws:rekognition:us-east-1:545579126031:collection/%s", TEST_COLLECTION_NAME);
+        TEST_COLLECTION_ARN = String.format("arn:%s:rekognition:%s:%s:collection/%s", TEST_PARTITION, TEST_REGION, TEST_ACCOUNT_ID, TEST_COLLECTION_NAME);
         TEST_TIMESTAMP = Instant.parse("2021-01-01T00:00:00.000Z");
         TEST_FACE_MODEL_VERSION = "5";
         TEST_FACE_COUNT = 0L;
@@ -0,0 +1,91 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CheckpointAwareClientTest {
+
+    @Test
+    public void beforeCheckpoint_ClosesClient_AfterRestoreBuildsNewOne() {
+        final List<SdkHttpClient> built = new ArrayList<>();
+        final CheckpointAwareClient<SdkHttpClient> holder = new CheckpointAwareClient<>(() -> {
+            final SdkHttpClient client = mock(SdkHttpClient.class);
+            built.add(client);
+            return client;
+        });
+        final SdkHttpClient first = holder.get();
+
+        holder.beforeCheckpoint(null);
+        verify(first).close();
+
+        holder.afterRestore(null);
+        assertThat(built).hasSize(2);
+        assertThat(holder.get()).isSameAs(built.get(1));
+        assertThat(holder.get()).isNotSameAs(first);
+    }
+
+    @Test
+    public void beforeCheckpoint_ClosesClientOnce() {
+        final SdkHttpClient client = mock(SdkHttpClient.class);
+        final CheckpointAwareClient<SdkHttpClient> holder = new CheckpointAwareClient<>(() -> client);
+
+        holder.beforeCheckpoint(null);
+        holder.beforeCheckpoint(null);
+
+        verify(client, times(1)).close();
+    }
+
+    @Test
+    public void get_RebuildsClientClosedForCheckpoint() {
+        final CheckpointAwareClient<SdkHttpClient> holder =
+            new CheckpointAwareClient<>(() -> mock(SdkHttpClient.class));
+        final SdkHttpClient first = holder.get();
+
+        holder.beforeCheckpoint(null);
+
+        assertThat(holder.get()).isNotNull().isNotSameAs(first);
+    }
+
+    @Test
+    public void checkpointAndRestore_LeavesNoLiveConnectionPool() {
+        final List<SdkHttpClient> built = new ArrayList<>();
+        final CheckpointAwareClient<SdkHttpClient> holder = new CheckpointAwareClient<>(() -> {
+            final SdkHttpClient client = ApacheHttpClient.builder().build();
+            built.add(client);
+            return client;
+        });
+
+        holder.beforeCheckpoint(null);
+        holder.afterRestore(null);
+
+        // A shut down pool refuses to lease a connection before any connect is attempted
+        assertThat(built).hasSize(2);
+        assertThrows(IllegalStateException.class, () -> built.get(0).prepareRequest(request()).call());
+        assertThat(holder.get()).isSameAs(built.get(1));
+        holder.beforeCheckpoint(null);
+        assertThrows(IllegalStateException.class, () -> built.get(1).prepareRequest(request()).call());
+    }
+
+    private static HttpExecuteRequest request() {
+        return HttpExecuteRequest.builder()
+            .request(SdkHttpRequest.builder()
+                .method(SdkHttpMethod.GET)
+                .uri(URI.create("http://localhost:1/"))
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,200 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.FaceRecord;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.InvalidImageFormatException;
+import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CollectionSeederTest extends AbstractTestBase {
+
+    private static final String MANIFEST_BUCKET = "manifests";
+    private static final String MANIFEST_KEY = "faces.txt";
+
+    private LocalImageStore imageStore;
+    private LocalRekognition rekognition;
+    private ProxyClient<RekognitionClient> proxyClient;
+    private ProxyClient<S3Client> s3ProxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy =
+            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        imageStore = new LocalImageStore();
+        rekognition = new LocalRekognition();
+        proxyClient = MOCK_PROXY(proxy, rekognition);
+        s3ProxyClient = proxy.newProxy(() -> imageStore);
+    }
+
+    @Test
+    public void seed_IndexesEveryImageOnceAcrossBatches() {
+        imageStore.put(MANIFEST_BUCKET, MANIFEST_KEY, String.join("\n",
+            "# images for the test collection",
+            "s3://images/alice.jpg,alice",
+            "",
+            "s3://images/bob.jpg,bob\r",
+            "not-an-s3-uri",
+            "s3://images/carol.jpg",
+            "s3://images/dave.jpg,dave"));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final CollectionSeeder seeder = new CollectionSeeder(proxyClient, s3ProxyClient, logger, 2, 2, 1000);
+
+        int invocations = 0;
+        boolean complete = false;
+        while (!complete) {
+            complete = seeder.seed(TEST_COLLECTION_NAME, manifest(), callbackContext);
+            invocations++;
+        }
+
+        assertThat(invocations).isEqualTo(3);
+        assertThat(rekognition.indexedImages()).containsExactlyInAnyOrder(
+            "images/alice.jpg:alice", "images/bob.jpg:bob", "images/carol.jpg:null", "images/dave.jpg:dave");
+        assertThat(callbackContext.getSeededImages()).isEqualTo(4);
+        assertThat(callbackContext.getIndexedFaces()).isEqualTo(4);
+        assertThat(callbackContext.getSeedFailedImages()).isEqualTo(1);
+        assertThat(callbackContext.getSeedFailures()).hasSize(1);
+        assertThat(callbackContext.getSeedFailures().get(0)).startsWith("not-an-s3-uri");
+    }
+
+    @Test
+    public void seed_RecordsRejectedImagesAndContinues() {
+        imageStore.put(MANIFEST_BUCKET, MANIFEST_KEY, "s3://images/corrupt.gif\ns3://images/erin.jpg,erin\n");
+        rekognition.reject("images/corrupt.gif", InvalidImageFormatException.builder().message("Invalid image format").build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final boolean complete = new CollectionSeeder(proxyClient, s3ProxyClient, logger)
+            .seed(TEST_COLLECTION_NAME, manifest(), callbackContext);
+
+        assertThat(complete).isTrue();
+        assertThat(rekognition.indexedImages()).containsExactly("images/erin.jpg:erin");
+        assertThat(callbackContext.getSeedFailedImages()).isEqualTo(1);
+        assertThat(callbackContext.getSeedFailures()).containsExactly("s3://images/corrupt.gif: Invalid image format");
+    }
+
+    @Test
+    public void seed_KeepsCheckpointWhenBatchFails() {
+        imageStore.put(MANIFEST_BUCKET, MANIFEST_KEY, "s3://images/frank.jpg\n");
+        rekognition.reject("images/frank.jpg", ThrottlingException.builder().message("Slow down").build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(ThrottlingException.class, () -> new CollectionSeeder(proxyClient, s3ProxyClient, logger)
+            .seed(TEST_COLLECTION_NAME, manifest(), callbackContext));
+        assertThat(callbackContext.getSeedManifestOffset()).isEqualTo(0);
+    }
+
+    @Test
+    public void toIndexFacesRequest_ParsesManifestLine() {
+        final IndexFacesRequest request =
+            CollectionSeeder.toIndexFacesRequest(TEST_COLLECTION_NAME, "s3://images/people/grace.jpg,grace");
+
+        assertThat(request.collectionId()).isEqualTo(TEST_COLLECTION_NAME);
+        assertThat(request.image().s3Object().bucket()).isEqualTo("images");
+        assertThat(request.image().s3Object().name()).isEqualTo("people/grace.jpg");
+        assertThat(request.externalImageId()).isEqualTo("grace");
+        assertThrows(IllegalArgumentException.class,
+            () -> CollectionSeeder.toIndexFacesRequest(TEST_COLLECTION_NAME, "s3://images/"));
+        assertThrows(IllegalArgumentException.class,
+            () -> CollectionSeeder.toIndexFacesRequest(TEST_COLLECTION_NAME, "https://images/grace.jpg"));
+    }
+
+    private static S3Object manifest() {
+        return S3Object.builder().bucket(MANIFEST_BUCKET).key(MANIFEST_KEY).build();
+    }
+
+    /**
+     * Serves objects from memory, including "bytes=N-" ranged reads.
+     */
+    private static class LocalImageStore implements S3Client {
+        private final Map<String, byte[]> objects = new HashMap<>();
+
+        void put(final String bucket, final String key, final String content) {
+            objects.put(bucket + "/" + key, content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public ResponseInputStream<GetObjectResponse> getObject(final GetObjectRequest request) {
+            final byte[] object = objects.get(request.bucket() + "/" + request.key());
+            if (object == null) {
+                throw NoSuchKeyException.builder().message(request.key()).build();
+            }
+            final int offset = request.range() == null
+                ? 0
+                : Integer.parseInt(request.range().substring("bytes=".length(), request.range().length() - 1));
+            final byte[] body = Arrays.copyOfRange(object, offset, object.length);
+            return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) body.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(body)));
+        }
+
+        @Override
+        public String serviceName() {
+            return S3Client.SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Indexes one face per image and records which images were indexed.
+     */
+    private static class LocalRekognition implements RekognitionClient {
+        private final List<String> indexedImages = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, RuntimeException> rejectedImages = new HashMap<>();
+
+        void reject(final String image, final RuntimeException exception) {
+            rejectedImages.put(image, exception);
+        }
+
+        List<String> indexedImages() {
+            return indexedImages;
+        }
+
+        @Override
+        public IndexFacesResponse indexFaces(final IndexFacesRequest request) {
+            final String image = request.image().s3Object().bucket() + "/" + request.image().s3Object().name();
+            if (rejectedImages.containsKey(image)) {
+                throw rejectedImages.get(image);
+            }
+            indexedImages.add(image + ":" + request.externalImageId());
+            return IndexFacesResponse.builder()
+                .faceRecords(FaceRecord.builder().build())
+                .build();
+        }
+
+        @Override
+        public String serviceName() {
+            return RekognitionClient.SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package software.amazon.rekognition.collection;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -106,6 +107,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceModel expectedModel = ResourceModel.builder()
             .collectionId(TEST_COLLECTION_NAME)
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(TagHelper.convertToSet(TEST_TAGS))
             .build();
 
@@ -163,6 +167,47 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(readResponse.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_CreateCollectionWithStackAndSystemTags() {
+
+        ResourceModel requestModel = ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .tags(TagHelper.convertToSet(ImmutableMap.of("TEST_TAG_1", "TEST_VALUE_1")))
+            .build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(requestModel)
+            .desiredResourceTags(ImmutableMap.of("TEST_TAG_1", "STACK_VALUE_1", "STACK_TAG", "STACK_VALUE"))
+            .systemTags(ImmutableMap.of("aws:cloudformation:stack-name", "test-stack"))
+            .build();
+
+        // Resource tags win over stack tags, and everything goes out with the CreateCollection call
+        CreateCollectionRequest createCollectionRequest = CreateCollectionRequest.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .tags(ImmutableMap.of(
+                "TEST_TAG_1", "TEST_VALUE_1",
+                "STACK_TAG", "STACK_VALUE",
+                "aws:cloudformation:stack-name", "test-stack"))
+            .build();
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                createCollectionRequest,
+                proxyClient.client()::createCollection
+            )).thenReturn(
+            CreateCollectionResponse.builder()
+                .collectionArn(TEST_COLLECTION_ARN)
+                .faceModelVersion(TEST_FACE_MODEL_VERSION)
+                .build()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> createResponse = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(createResponse).isNotNull();
+        assertThat(createResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(createResponse.getResourceModel()).isEqualTo(requestModel);
+        verify(sdkClient).createCollection(createCollectionRequest);
+    }
+
     @Test
     public void handleRequest_CreateCollectionWithoutTags() {
 
@@ -177,6 +222,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceModel expectedModel = ResourceModel.builder()
             .collectionId(TEST_COLLECTION_NAME)
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(emptySet())
             .build();
 
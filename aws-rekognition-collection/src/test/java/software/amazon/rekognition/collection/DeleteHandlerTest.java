@@ -6,10 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.AccessDeniedException;
 import software.amazon.awssdk.services.rekognition.model.DeleteCollectionRequest;
 import software.amazon.awssdk.services.rekognition.model.DeleteCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.Face;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
 import software.amazon.awssdk.services.rekognition.model.InternalServerErrorException;
 import software.amazon.awssdk.services.rekognition.model.InvalidParameterException;
 import software.amazon.awssdk.services.rekognition.model.ProvisionedThroughputExceededException;
@@ -21,6 +28,7 @@ import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
@@ -61,6 +69,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
     private DeleteCollectionRequest deleteCollectionRequest;
 
+    private DescribeCollectionRequest describeCollectionRequest;
+
     @BeforeEach
     public void setup() {
         System.setProperty(SDKGlobalConfiguration.AWS_REGION_SYSTEM_PROPERTY, Regions.US_EAST_1.getName());
@@ -73,6 +83,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .collectionId(TEST_COLLECTION_NAME)
             .build();
         deleteCollectionRequest = Translator.translateToDeleteRequest(initial);
+        describeCollectionRequest = Translator.translateToReadRequest(initial);
         request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(initial)
             .build();
@@ -105,6 +116,140 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_DeleteCollectionTimesOut() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                deleteCollectionRequest,
+                proxyClient.client()::deleteCollection
+            )).thenThrow(ApiCallTimeoutException.create(30000));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().isDeleteRequested()).isTrue();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+    }
+
+    @Test
+    public void handleRequest_CollectionStillBeingDeleted() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenReturn(DEFAULT_DESCRIBE_RESPONSE);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setDeleteRequested(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getStabilizationRetries()).isEqualTo(1);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+    }
+
+    @Test
+    public void handleRequest_CollectionDeletedAfterTimeout() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenThrow(ResourceNotFoundException.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setDeleteRequested(true);
+        callbackContext.setStabilizationRetries(3);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isNull();
+    }
+
+    @Test
+    public void handleRequest_CollectionDeleteDoesNotStabilize() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenReturn(DEFAULT_DESCRIBE_RESPONSE);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setDeleteRequested(true);
+        callbackContext.setStabilizationRetries(DeleteHandler.MAX_STABILIZATION_RETRIES);
+
+        assertThrows(
+            CfnNotStabilizedException.class,
+            () -> handler.handleRequest(proxy, request, callbackContext, proxyClient, logger)
+        );
+    }
+
+    @Test
+    public void handleRequest_PurgeFacesBeforeDelete_FacesDeleted() {
+        final ResourceHandlerRequest<ResourceModel> purgeRequest = purgeFacesRequest();
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(
+            ListFacesResponse.builder()
+                .faces(Face.builder().faceId("face-1").build(), Face.builder().faceId("face-2").build())
+                .nextToken("page-2")
+                .build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("page-2"),
+                proxyClient.client()::listFaces
+            )).thenReturn(
+            ListFacesResponse.builder().build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                DeleteFacesRequest.builder().collectionId(TEST_COLLECTION_NAME).faceIds("face-1", "face-2").build(),
+                proxyClient.client()::deleteFaces
+            )).thenReturn(
+            DeleteFacesResponse.builder().deletedFaces("face-1", "face-2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, purgeRequest, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getPurgedFaces()).isEqualTo(2);
+        assertThat(response.getCallbackContext().getFacePurgeCursor()).isNull();
+        assertThat(response.getCallbackContext().isFacePurgeComplete()).isFalse();
+        assertThat(response.getCallbackContext().isDeleteRequested()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_PurgeFacesBeforeDelete_NoFacesLeft() {
+        final ResourceHandlerRequest<ResourceModel> purgeRequest = purgeFacesRequest();
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(
+            ListFacesResponse.builder().build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                deleteCollectionRequest,
+                proxyClient.client()::deleteCollection
+            )).thenReturn(
+            DeleteCollectionResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, purgeRequest, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+    }
+
     @Test
     public void handleRequest_InternalServerError() {
         stubAndThrowExceptionForDeleteCollection(
@@ -179,4 +324,21 @@ public class DeleteHandlerTest extends AbstractTestBase {
             () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)
         );
     }
+
+    private ResourceHandlerRequest<ResourceModel> purgeFacesRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .collectionId(TEST_COLLECTION_NAME)
+                .purgeFacesBeforeDelete(true)
+                .build())
+            .build();
+    }
+
+    private static ListFacesRequest listFacesRequest(final String nextToken) {
+        return ListFacesRequest.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .maxResults(FacePurger.MAX_BATCH_SIZE)
+            .nextToken(nextToken)
+            .build();
+    }
 }
@@ -0,0 +1,286 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.Face;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FaceMetadataExporterTest extends AbstractTestBase {
+
+    private static final String TEST_BUCKET = "test-bucket";
+    private static final String TEST_UPLOAD_ID = "upload-id";
+
+    @Mock
+    RekognitionClient sdkClient;
+
+    @Mock
+    S3Client s3Client;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<RekognitionClient> proxyClient;
+
+    private ProxyClient<S3Client> s3ProxyClient;
+
+    private S3Destination destination;
+
+    private List<byte[]> uploadedParts;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RekognitionClient.class);
+        s3Client = mock(S3Client.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        s3ProxyClient = proxy.newProxy(() -> s3Client);
+        destination = S3Destination.builder().bucket(TEST_BUCKET).keyPrefix("exports/").build();
+
+        uploadedParts = new ArrayList<>();
+
+        lenient().when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId(TEST_UPLOAD_ID).build());
+        // The exporter reuses its part buffer, so each body is read while its part is being uploaded
+        lenient().when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenAnswer(invocation -> {
+                uploadedParts.add(read(invocation.getArgument(1)));
+                return UploadPartResponse.builder().eTag("etag-" + uploadedParts.size()).build();
+            });
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void export_WritesOneGzipMemberPerPart() throws IOException {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(ListFacesResponse.builder()
+                .faces(Face.builder().faceId("face-1").externalImageId("image-\"1\"").imageId("id-1").build())
+                .nextToken("page-2")
+                .build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("page-2"),
+                proxyClient.client()::listFaces
+            )).thenReturn(ListFacesResponse.builder()
+                .faces(Face.builder().faceId("face-2").imageId("id-2").build())
+                .build());
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompleteMultipartUploadResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final boolean complete = new FaceMetadataExporter(proxyClient, s3ProxyClient, logger, 1, 10)
+            .export(TEST_COLLECTION_NAME, destination, callbackContext);
+
+        assertThat(complete).isTrue();
+        assertThat(callbackContext.getExportedFaces()).isEqualTo(2);
+        assertThat(callbackContext.getFaceExportPartETags()).containsExactly("etag-1", "etag-2");
+        assertThat(callbackContext.getFaceExportKey()).startsWith("exports/" + TEST_COLLECTION_NAME + "-faces-");
+
+        final ArgumentCaptor<UploadPartRequest> partRequests = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(2)).uploadPart(partRequests.capture(), any(RequestBody.class));
+        assertThat(partRequests.getAllValues().stream().map(UploadPartRequest::partNumber).collect(Collectors.toList()))
+            .containsExactly(1, 2);
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeRequest.capture());
+        assertThat(completeRequest.getValue().multipartUpload().parts()).hasSize(2);
+
+        assertThat(gunzip(uploadedParts)).containsExactly(
+            "{\"FaceId\":\"face-1\",\"ExternalImageId\":\"image-\\\"1\\\"\",\"ImageId\":\"id-1\"}",
+            "{\"FaceId\":\"face-2\",\"ExternalImageId\":null,\"ImageId\":\"id-2\"}");
+    }
+
+    @Test
+    public void export_StopsAfterMaxPartsAndResumesFromCheckpoint() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(ListFacesResponse.builder()
+                .faces(Face.builder().faceId("face-1").imageId("id-1").build())
+                .nextToken("page-2")
+                .build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final boolean complete = new FaceMetadataExporter(proxyClient, s3ProxyClient, logger, 1, 1)
+            .export(TEST_COLLECTION_NAME, destination, callbackContext);
+
+        assertThat(complete).isFalse();
+        assertThat(callbackContext.getFaceExportUploadId()).isEqualTo(TEST_UPLOAD_ID);
+        assertThat(callbackContext.getFaceExportCursor()).isEqualTo("page-2");
+        assertThat(callbackContext.getFaceExportPartETags()).containsExactly("etag-1");
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    public void export_AbortsUploadAndRestarts_WhenPaginationTokenExpired() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(ListFacesResponse.builder()
+                .faces(Face.builder().faceId("face-1").imageId("id-1").build())
+                .nextToken("page-2")
+                .build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("page-2"),
+                proxyClient.client()::listFaces
+            )).thenThrow(InvalidPaginationTokenException.builder().message("RekognitionException").build());
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(AbortMultipartUploadResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final boolean complete = new FaceMetadataExporter(proxyClient, s3ProxyClient, logger, 1, 10)
+            .export(TEST_COLLECTION_NAME, destination, callbackContext);
+
+        assertThat(complete).isFalse();
+        final ArgumentCaptor<AbortMultipartUploadRequest> abortRequest =
+            ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortRequest.capture());
+        assertThat(abortRequest.getValue().uploadId()).isEqualTo(TEST_UPLOAD_ID);
+        assertThat(abortRequest.getValue().key()).startsWith("exports/" + TEST_COLLECTION_NAME + "-faces-");
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+
+        assertThat(callbackContext.getFaceExportUploadId()).isNull();
+        assertThat(callbackContext.getFaceExportKey()).isNull();
+        assertThat(callbackContext.getFaceExportCursor()).isNull();
+        assertThat(callbackContext.getFaceExportPartETags()).isEmpty();
+        assertThat(callbackContext.getExportedFaces()).isZero();
+    }
+
+    @Test
+    public void export_OpensNoUpload_WhenFirstListFails() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenThrow(ResourceNotFoundException.builder().message("RekognitionException").build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(ResourceNotFoundException.class, () ->
+            new FaceMetadataExporter(proxyClient, s3ProxyClient, logger, 1, 10)
+                .export(TEST_COLLECTION_NAME, destination, callbackContext));
+
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertThat(callbackContext.getFaceExportUploadId()).isNull();
+    }
+
+    @Test
+    public void export_AbortsUpload_WhenListFailsAfterFirstPart() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(ListFacesResponse.builder()
+                .faces(Face.builder().faceId("face-1").imageId("id-1").build())
+                .nextToken("page-2")
+                .build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("page-2"),
+                proxyClient.client()::listFaces
+            )).thenThrow(ResourceNotFoundException.builder().message("RekognitionException").build());
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(AbortMultipartUploadResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(ResourceNotFoundException.class, () ->
+            new FaceMetadataExporter(proxyClient, s3ProxyClient, logger, 1, 10)
+                .export(TEST_COLLECTION_NAME, destination, callbackContext));
+
+        final ArgumentCaptor<AbortMultipartUploadRequest> abortRequest =
+            ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortRequest.capture());
+        assertThat(abortRequest.getValue().uploadId()).isEqualTo(TEST_UPLOAD_ID);
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    private static ListFacesRequest listFacesRequest(final String nextToken) {
+        return ListFacesRequest.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .maxResults(FaceMetadataExporter.LIST_FACES_PAGE_SIZE)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static byte[] read(final RequestBody body) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<String> gunzip(final List<byte[]> parts) throws IOException {
+        final ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            object.write(part);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(new ByteArrayInputStream(object.toByteArray())), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.Face;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FacePurgerTest extends AbstractTestBase {
+
+    @Mock
+    RekognitionClient sdkClient;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<RekognitionClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RekognitionClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void purge_StopsAfterMaxBatches() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(facesPage("page-2", "face-1", "face-2"));
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("page-2"),
+                proxyClient.client()::listFaces
+            )).thenReturn(facesPage("page-3", "face-3"));
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                deleteFacesRequest("face-1", "face-2"),
+                proxyClient.client()::deleteFaces
+            )).thenReturn(DeleteFacesResponse.builder().deletedFaces("face-1", "face-2").build());
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                deleteFacesRequest("face-3"),
+                proxyClient.client()::deleteFaces
+            )).thenReturn(DeleteFacesResponse.builder().deletedFaces("face-3").build());
+
+        final FacePurger.Result result = new FacePurger(proxyClient, logger, 1, 2).purge(TEST_COLLECTION_NAME, null);
+
+        assertThat(result.getDeletedFaces()).isEqualTo(3);
+        assertThat(result.getCursor()).isEqualTo("page-3");
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    public void purge_ResumesFromCursor() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("page-3"),
+                proxyClient.client()::listFaces
+            )).thenReturn(ListFacesResponse.builder().build());
+
+        final FacePurger.Result result = new FacePurger(proxyClient, logger).purge(TEST_COLLECTION_NAME, "page-3");
+
+        assertThat(result.getDeletedFaces()).isEqualTo(0);
+        assertThat(result.getCursor()).isNull();
+        assertThat(result.isComplete()).isTrue();
+    }
+
+    @Test
+    public void purge_RestartsOnInvalidCursor() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest("expired"),
+                proxyClient.client()::listFaces
+            )).thenThrow(InvalidPaginationTokenException.builder().message("RekognitionException").build());
+
+        final FacePurger.Result result = new FacePurger(proxyClient, logger).purge(TEST_COLLECTION_NAME, "expired");
+
+        assertThat(result.getCursor()).isNull();
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    public void purge_PropagatesDeleteFacesErrors() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listFacesRequest(null),
+                proxyClient.client()::listFaces
+            )).thenReturn(facesPage(null, "face-1"));
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                deleteFacesRequest("face-1"),
+                proxyClient.client()::deleteFaces
+            )).thenThrow(ResourceNotFoundException.builder().message("RekognitionException").build());
+
+        assertThrows(
+            ResourceNotFoundException.class,
+            () -> new FacePurger(proxyClient, logger).purge(TEST_COLLECTION_NAME, null)
+        );
+    }
+
+    private static ListFacesRequest listFacesRequest(final String nextToken) {
+        return ListFacesRequest.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .maxResults(FacePurger.MAX_BATCH_SIZE)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static DeleteFacesRequest deleteFacesRequest(final String... faceIds) {
+        return DeleteFacesRequest.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .faceIds(faceIds)
+            .build();
+    }
+
+    private static ListFacesResponse facesPage(final String nextToken, final String... faceIds) {
+        final Face[] faces = new Face[faceIds.length];
+        for (int i = 0; i < faceIds.length; i++) {
+            faces[i] = Face.builder().faceId(faceIds[i]).build();
+        }
+        return ListFacesResponse.builder()
+            .faces(faces)
+            .nextToken(nextToken)
+            .build();
+    }
+}
@@ -0,0 +1,159 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsRequest;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLoggerTest {
+
+    private final List<String> lines = new ArrayList<>();
+    private final Logger delegate = lines::add;
+
+    @Test
+    public void info_WritesWithLevelPrefix() {
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.INFO, 100, false);
+
+        logger.info("created");
+        logger.info(() -> "read");
+        logger.log("listed");
+
+        assertThat(lines).containsExactly("[INFO] created", "[INFO] read", "[INFO] listed");
+    }
+
+    @Test
+    public void debug_DoesNotBuildMessage_WhenNotEnabled() {
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.INFO, 100, false);
+        final AtomicInteger built = new AtomicInteger();
+
+        logger.debug(() -> "Service Request: " + built.incrementAndGet());
+
+        assertThat(built).hasValue(0);
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void debug_WritesMessage_WhenInvocationSampled() {
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.INFO, 100, true);
+
+        logger.debug(() -> "Service Request");
+
+        assertThat(lines).containsExactly("[DEBUG] Service Request");
+    }
+
+    @Test
+    public void info_DroppedBelowLevel_WarnStillWritten() {
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.WARN, 100, true);
+
+        logger.info("created");
+        logger.info(() -> "read");
+        logger.warn("throttled");
+
+        assertThat(lines).containsExactly("[WARN] throttled");
+    }
+
+    @Test
+    public void info_DroppedOverBudget_FinishCountsThem() {
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.DEBUG, 10, false);
+        final AtomicInteger built = new AtomicInteger();
+
+        logger.info("0123456789");
+        logger.info("a");
+        logger.debug(() -> "b" + built.incrementAndGet());
+        logger.warn("throttled");
+        logger.finish();
+
+        assertThat(built).hasValue(0);
+        assertThat(lines).containsExactly(
+            "[INFO] 0123456789",
+            "[WARN] throttled",
+            "[WARN] Dropped 2 log messages over the budget");
+    }
+
+    @Test
+    public void info_DroppedOverBudget_CountingUtf8Bytes() {
+        // 5 characters, 10 bytes in UTF-8
+        final String message = "\u00e9\u00e9\u00e9\u00e9\u00e9";
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.INFO, 12, false);
+
+        logger.info(message);
+        logger.info(message);
+
+        assertThat(lines).containsExactly("[INFO] " + message);
+    }
+
+    @Test
+    public void utf8Length_MatchesEncodedSize() {
+        for (String message : Arrays.asList("", "created", "\u00e9t\u00e9", "\u4e2d\u6587", "\ud83d\ude00 face")) {
+            assertThat(HandlerLogger.utf8Length(message)).isEqualTo(message.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    @Test
+    public void finish_WritesNothing_WithinBudget() {
+        final HandlerLogger logger = new HandlerLogger(delegate, HandlerLogger.Level.INFO, 100, false);
+
+        logger.info("created");
+        logger.finish();
+
+        assertThat(lines).containsExactly("[INFO] created");
+    }
+
+    @Test
+    public void of_ReturnsSameLogger_ForHandlerLogger() {
+        final HandlerLogger logger = HandlerLogger.of(new LoggerProxy());
+
+        assertThat(HandlerLogger.of(logger)).isSameAs(logger);
+        assertThat(logger.isEnabled(HandlerLogger.Level.INFO)).isTrue();
+    }
+
+    @Test
+    public void describe_HandlerRequest_CountsTagsInsteadOfRenderingThem() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .collectionId("faces")
+                .tags(TagHelper.convertToSet(Collections.singletonMap("secret-key", "secret-value")))
+                .build())
+            .desiredResourceTags(Collections.singletonMap("stack-key", "stack-value"))
+            .logicalResourceIdentifier("Faces")
+            .clientRequestToken("token")
+            .build();
+
+        assertThat(HandlerLogger.describe(request)).isEqualTo(
+            "CollectionId=faces, LogicalResourceId=Faces, ClientRequestToken=token, Tags=1, ResourceTags=1");
+    }
+
+    @Test
+    public void describe_HandlerRequest_WithoutModel() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .build();
+
+        assertThat(HandlerLogger.describe(request)).isEqualTo(
+            "CollectionId=null, LogicalResourceId=null, ClientRequestToken=null, Tags=0, ResourceTags=0");
+    }
+
+    @Test
+    public void describe_ServiceRequest_KeepsKeyFields() {
+        assertThat(HandlerLogger.describe(DescribeCollectionRequest.builder().collectionId("faces").build()))
+            .isEqualTo("DescribeCollectionRequest(CollectionId=faces)");
+        assertThat(HandlerLogger.describe(TagResourceRequest.builder()
+            .resourceArn("arn:aws:rekognition:us-east-1:123456789012:collection/faces")
+            .tags(Collections.singletonMap("secret-key", "secret-value"))
+            .build()))
+            .isEqualTo("TagResourceRequest(ResourceArn=arn:aws:rekognition:us-east-1:123456789012:collection/faces)");
+        assertThat(HandlerLogger.describe(ListCollectionsRequest.builder().build()))
+            .isEqualTo("ListCollectionsRequest()");
+    }
+}
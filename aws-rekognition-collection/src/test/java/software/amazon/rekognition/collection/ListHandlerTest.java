@@ -34,6 +34,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -64,6 +65,8 @@ public class ListHandlerTest extends AbstractTestBase {
 
     private List<String> collectionIds;
 
+    private List<String> faceModelVersions;
+
     private final String NEXT_TOKEN_1 = "nextToken1";
     private final String NEXT_TOKEN_2 = "nextToken2";
 
@@ -78,6 +81,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .collectionId(TEST_COLLECTION_NAME)
             .build();
         collectionIds = Lists.newArrayList("Id1", "Id2", "Id3");
+        faceModelVersions = Lists.newArrayList("5.0", "5.0", "4.0");
     }
 
     @AfterEach
@@ -91,10 +95,11 @@ public class ListHandlerTest extends AbstractTestBase {
     public void handleRequest_ListCollectionsWithoutNextToken() {
         ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(inputModel)
+            .awsPartition(TEST_PARTITION)
+            .region(TEST_REGION)
+            .awsAccountId(TEST_ACCOUNT_ID)
             .build();
-        List<ResourceModel> models = collectionIds.stream()
-            .map(id -> ResourceModel.builder().collectionId(id).build())
-            .collect(Collectors.toList());
+        List<ResourceModel> models = expectedModels();
         ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(null);
 
         when(
@@ -104,7 +109,7 @@ public class ListHandlerTest extends AbstractTestBase {
             )).thenReturn(
                 ListCollectionsResponse.builder()
                     .collectionIds(collectionIds)
-                    .faceModelVersions("5.0", "5.0", "4.0")
+                    .faceModelVersions(faceModelVersions)
                     .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
@@ -125,11 +130,12 @@ public class ListHandlerTest extends AbstractTestBase {
     public void handleRequest_ListCollectionsWithNextTokenReturned() {
         ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(inputModel)
+            .awsPartition(TEST_PARTITION)
+            .region(TEST_REGION)
+            .awsAccountId(TEST_ACCOUNT_ID)
             .build();
 
-        List<ResourceModel> models = collectionIds.stream()
-            .map(id -> ResourceModel.builder().collectionId(id).build())
-            .collect(Collectors.toList());
+        List<ResourceModel> models = expectedModels();
         ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(null);
 
         when(
@@ -139,7 +145,7 @@ public class ListHandlerTest extends AbstractTestBase {
             )).thenReturn(
                 ListCollectionsResponse.builder()
                     .collectionIds(collectionIds)
-                    .faceModelVersions("5.0", "5.0", "4.0")
+                    .faceModelVersions(faceModelVersions)
                     .nextToken(NEXT_TOKEN_1)
                     .build());
 
@@ -162,12 +168,13 @@ public class ListHandlerTest extends AbstractTestBase {
 
         ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(inputModel)
+            .awsPartition(TEST_PARTITION)
+            .region(TEST_REGION)
+            .awsAccountId(TEST_ACCOUNT_ID)
             .nextToken(NEXT_TOKEN_1)
             .build();
 
-        List<ResourceModel> models = collectionIds.stream()
-            .map(id -> ResourceModel.builder().collectionId(id).build())
-            .collect(Collectors.toList());
+        List<ResourceModel> models = expectedModels();
         ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(NEXT_TOKEN_1);
 
         when(
@@ -177,7 +184,7 @@ public class ListHandlerTest extends AbstractTestBase {
             )).thenReturn(
                 ListCollectionsResponse.builder()
                     .collectionIds(collectionIds)
-                    .faceModelVersions("5.0", "5.0", "4.0")
+                    .faceModelVersions(faceModelVersions)
                     .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
@@ -198,12 +205,13 @@ public class ListHandlerTest extends AbstractTestBase {
     public void handleRequest_ListCollectionsWithNextTokenReturnedAndInInput() {
         ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(inputModel)
+            .awsPartition(TEST_PARTITION)
+            .region(TEST_REGION)
+            .awsAccountId(TEST_ACCOUNT_ID)
             .nextToken(NEXT_TOKEN_1)
             .build();
 
-        List<ResourceModel> models = collectionIds.stream()
-            .map(id -> ResourceModel.builder().collectionId(id).build())
-            .collect(Collectors.toList());
+        List<ResourceModel> models = expectedModels();
         ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(NEXT_TOKEN_1);
 
         when(
@@ -213,7 +221,7 @@ public class ListHandlerTest extends AbstractTestBase {
             )).thenReturn(
                 ListCollectionsResponse.builder()
                     .collectionIds(collectionIds)
-                    .faceModelVersions("5.0", "5.0", "4.0")
+                    .faceModelVersions(faceModelVersions)
                     .nextToken(NEXT_TOKEN_2)
                     .build());
 
@@ -231,6 +239,40 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ListCollectionsWithoutFaceModelVersions() {
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(inputModel)
+            .awsPartition(TEST_PARTITION)
+            .region(TEST_REGION)
+            .awsAccountId(TEST_ACCOUNT_ID)
+            .build();
+
+        List<ResourceModel> models = collectionIds.stream()
+            .map(id -> ResourceModel.builder()
+                .collectionId(id)
+                .arn(String.format("arn:%s:rekognition:%s:%s:collection/%s", TEST_PARTITION, TEST_REGION, TEST_ACCOUNT_ID, id))
+                .build())
+            .collect(Collectors.toList());
+        ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(null);
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listCollectionsRequest,
+                proxyClient.client()::listCollections
+            )).thenReturn(
+                ListCollectionsResponse.builder()
+                    .collectionIds(collectionIds)
+                    .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(models);
+    }
+
     @Test
     public void handleRequest_InvalidPaginatedToken() {
         stubAndThrowExceptionForListCollections(
@@ -287,6 +329,16 @@ public class ListHandlerTest extends AbstractTestBase {
         );
     }
 
+    private List<ResourceModel> expectedModels() {
+        return IntStream.range(0, collectionIds.size())
+            .mapToObj(i -> ResourceModel.builder()
+                .collectionId(collectionIds.get(i))
+                .arn(String.format("arn:%s:rekognition:%s:%s:collection/%s", TEST_PARTITION, TEST_REGION, TEST_ACCOUNT_ID, collectionIds.get(i)))
+                .faceModelVersion(faceModelVersions.get(i))
+                .build())
+            .collect(Collectors.toList());
+    }
+
     /**
      * Method to cover all exceptions in the "ListCollection" part of the List chain
      *
@@ -296,6 +348,9 @@ public class ListHandlerTest extends AbstractTestBase {
     private void stubAndThrowExceptionForListCollections(final RekognitionException rekEx, final BaseHandlerException cfnEx) {
         ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(inputModel)
+            .awsPartition(TEST_PARTITION)
+            .region(TEST_REGION)
+            .awsAccountId(TEST_ACCOUNT_ID)
             .build();
         ListCollectionsRequest listCollectionsRequest = Translator.translateToListRequest(null);
 
@@ -0,0 +1,75 @@
+package software.amazon.rekognition.collection;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimerTest {
+
+    private HttpServer endpoint;
+    private final List<String> receivedPaths = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setup() throws IOException {
+        endpoint = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        endpoint.createContext("/", exchange -> {
+            receivedPaths.add(exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        endpoint.start();
+        System.setProperty("aws.region", "us-east-1");
+        System.setProperty("aws.endpointUrlRekognition",
+            "http://localhost:" + endpoint.getAddress().getPort());
+    }
+
+    @AfterEach
+    public void tear_down() {
+        System.clearProperty("aws.region");
+        System.clearProperty("aws.endpointUrlRekognition");
+        System.clearProperty(Primer.PRIME_PROPERTY);
+        System.clearProperty(Primer.PRIME_CONNECTION_PROPERTY);
+        endpoint.stop(0);
+    }
+
+    @Test
+    public void prime_MarshalsEveryRequestWithoutSendingIt() throws IOException {
+        assertThat(Primer.prime(false)).isEqualTo(10);
+
+        assertThat(receivedPaths).isEmpty();
+    }
+
+    @Test
+    public void prime_OpensConnectionToEndpoint() throws IOException {
+        Primer.prime(true);
+
+        assertThat(receivedPaths).containsExactly("/");
+    }
+
+    @Test
+    public void primeOnInit_DoesNothingByDefault() {
+        Primer.primeOnInit();
+
+        assertThat(receivedPaths).isEmpty();
+    }
+
+    @Test
+    public void primeOnInit_PrimesOncePerJvm() {
+        System.setProperty(Primer.PRIME_PROPERTY, "true");
+        System.setProperty(Primer.PRIME_CONNECTION_PROPERTY, "true");
+
+        Primer.primeOnInit();
+        Primer.primeOnInit();
+
+        assertThat(receivedPaths).containsExactly("/");
+    }
+}
@@ -0,0 +1,55 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimitedExecutorTest {
+
+    @Test
+    public void runAll_RunsEveryRequest() {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(() -> {
+                calls.incrementAndGet();
+                return null;
+            });
+        }
+
+        new RateLimitedExecutor(3, 1000).runAll(requests);
+
+        assertThat(calls).hasValue(10);
+    }
+
+    @Test
+    public void runAll_RethrowsRequestException() {
+        final List<Callable<Void>> requests = Collections.singletonList(() -> {
+            throw ThrottlingException.builder().message("RekognitionException").build();
+        });
+
+        assertThrows(ThrottlingException.class, () -> new RateLimitedExecutor(1, 1000).runAll(requests));
+    }
+
+    @Test
+    public void acquirePermit_SpacesRequestStarts() throws InterruptedException {
+        final RateLimitedExecutor executor = new RateLimitedExecutor(1, 20);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            executor.acquirePermit();
+        }
+
+        // The first permit is immediate, the next two wait 50ms each
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+}
@@ -1,5 +1,6 @@
 package software.amazon.rekognition.collection;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,8 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -95,12 +98,44 @@ public class ReadHandlerTest extends AbstractTestBase {
         System.clearProperty(SDKGlobalConfiguration.AWS_REGION_SYSTEM_PROPERTY);
     }
 
+    @Test
+    public void handleRequest_FaceCountOverIntRange_IsClamped() {
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenReturn(
+            DescribeCollectionResponse.builder()
+                .collectionARN(TEST_COLLECTION_ARN)
+                .faceCount(Integer.MAX_VALUE + 1L)
+                .build()
+        );
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listTagsForResourceRequest,
+                proxyClient.client()::listTagsForResource
+            )).thenReturn(
+            ListTagsForResourceResponse.builder()
+                .build()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getFaceCount()).isEqualTo(Integer.MAX_VALUE);
+    }
+
     @Test
     public void handleRequest_ResourceExistsWithoutTags() {
 
         final ResourceModel expectedModel = ResourceModel.builder()
             .collectionId(TEST_COLLECTION_NAME)
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(emptySet())
             .build();
 
@@ -144,6 +179,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         final ResourceModel expectedModel = ResourceModel.builder()
             .collectionId(TEST_COLLECTION_NAME)
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(TagHelper.convertToSet(TEST_TAGS))
             .build();
 
@@ -182,6 +220,112 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ResourceExistsWithSystemAndStackTags_ReturnsResourceTagsOnly() {
+        final Map<String, String> attachedTags = new HashMap<>(TEST_TAGS);
+        attachedTags.put("aws:cloudformation:stack-name", "stack");
+        attachedTags.put("StackTag", "stack-value");
+        final ResourceHandlerRequest<ResourceModel> stackTaggedRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .collectionId(TEST_COLLECTION_NAME)
+                .build())
+            .desiredResourceTags(ImmutableMap.of("StackTag", "stack-value"))
+            .build();
+
+        final ResourceModel expectedModel = ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
+            .tags(TagHelper.convertToSet(TEST_TAGS))
+            .build();
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenReturn(
+            DescribeCollectionResponse.builder()
+                .collectionARN(TEST_COLLECTION_ARN)
+                .faceModelVersion(TEST_FACE_MODEL_VERSION)
+                .faceCount(TEST_FACE_COUNT)
+                .creationTimestamp(TEST_TIMESTAMP)
+                .build()
+        );
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listTagsForResourceRequest,
+                proxyClient.client()::listTagsForResource
+            )).thenReturn(
+            ListTagsForResourceResponse.builder()
+                .tags(attachedTags)
+                .build()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, stackTaggedRequest, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedModel);
+    }
+
+    @Test
+    public void handleRequest_ResourceTagSharesKeyWithStackTag_KeepsResourceTag() {
+        final Map<String, String> attachedTags = ImmutableMap.of(
+            "SharedTag", "same-value",
+            "StackTag", "resource-value");
+        final Map<String, String> resourceTags = ImmutableMap.of("SharedTag", "same-value");
+        final ResourceHandlerRequest<ResourceModel> stackTaggedRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .collectionId(TEST_COLLECTION_NAME)
+                .tags(TagHelper.convertToSet(resourceTags))
+                .build())
+            .desiredResourceTags(ImmutableMap.of(
+                "SharedTag", "same-value",
+                "StackTag", "stack-value"))
+            .build();
+
+        final ResourceModel expectedModel = ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
+            .tags(TagHelper.convertToSet(resourceTags))
+            .build();
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenReturn(
+            DescribeCollectionResponse.builder()
+                .collectionARN(TEST_COLLECTION_ARN)
+                .faceModelVersion(TEST_FACE_MODEL_VERSION)
+                .faceCount(TEST_FACE_COUNT)
+                .creationTimestamp(TEST_TIMESTAMP)
+                .build()
+        );
+
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                listTagsForResourceRequest,
+                proxyClient.client()::listTagsForResource
+            )).thenReturn(
+            ListTagsForResourceResponse.builder()
+                .tags(attachedTags)
+                .build()
+        );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, stackTaggedRequest, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedModel);
+    }
+
     @Test
     public void handleRequest_ResourceAccessDenied() {
         stubAndThrowExceptionForDescribeCollection(
@@ -0,0 +1,88 @@
+package software.amazon.rekognition.collection;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.rekognition.collection.TagHelper.convertToSet;
+
+public class ResourceModelValidatorTest extends AbstractTestBase {
+
+    @Test
+    public void validate_AcceptsValidModel() {
+        final ResourceModel model = ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .tags(convertToSet(TEST_TAGS))
+            .seedManifest(S3Object.builder().bucket("manifests").key("faces.txt").build())
+            .faceMetadataExport(S3Destination.builder().bucket("exports").keyPrefix("faces/").build())
+            .build();
+
+        assertDoesNotThrow(() -> ResourceModelValidator.validate(model));
+    }
+
+    @Test
+    public void validate_RejectsInvalidCollectionId() {
+        assertInvalid(ResourceModel.builder().build());
+        assertInvalid(ResourceModel.builder().collectionId("my collection").build());
+        assertInvalid(ResourceModel.builder().collectionId("!!a").build());
+        assertInvalid(ResourceModel.builder().collectionId(repeat('a', 256)).build());
+    }
+
+    @Test
+    public void validate_RejectsInvalidTags() {
+        assertInvalid(modelWithTags(singleTag("aws:reserved", "value")));
+        assertInvalid(modelWithTags(singleTag("key", "bad value!")));
+        assertInvalid(modelWithTags(singleTag(repeat('k', 129), "value")));
+
+        final Map<String, String> tooManyTags = new HashMap<>();
+        for (int i = 0; i <= 200; i++) {
+            tooManyTags.put("key" + i, "value");
+        }
+        assertInvalid(modelWithTags(tooManyTags));
+    }
+
+    @Test
+    public void validate_RejectsInvalidS3Locations() {
+        assertInvalid(ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .seedManifest(S3Object.builder().bucket("ab").key("faces.txt").build())
+            .build());
+        assertInvalid(ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .seedManifest(S3Object.builder().bucket("my bucket").key("faces.txt").build())
+            .build());
+        assertInvalid(ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .faceMetadataExport(S3Destination.builder().bucket("exports").keyPrefix(repeat('p', 901)).build())
+            .build());
+    }
+
+    private static void assertInvalid(final ResourceModel model) {
+        assertThrows(CfnInvalidRequestException.class, () -> ResourceModelValidator.validate(model));
+    }
+
+    private static ResourceModel modelWithTags(final Map<String, String> tags) {
+        return ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .tags(convertToSet(tags))
+            .build();
+    }
+
+    private static Map<String, String> singleTag(final String key, final String value) {
+        final Map<String, String> tags = new HashMap<>();
+        tags.put(key, value);
+        return tags;
+    }
+
+    private static String repeat(final char c, final int count) {
+        final StringBuilder value = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            value.append(c);
+        }
+        return value.toString();
+    }
+}
@@ -100,6 +100,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         // Expected response should have no change
         final ResourceModel expectedResponse = desired.toBuilder()
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(convertToSet(TEST_TAGS))
             .build();
 
@@ -147,6 +150,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         // Expected response should have new tags
         final ResourceModel expectedResponse = desired.toBuilder()
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(convertToSet(TEST_TAGS))
             .build();
 
@@ -210,6 +216,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         // Expected response should have new tags
         final ResourceModel expectedResponse = desired.toBuilder()
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(convertToSet(expectedTags))
             .build();
 
@@ -268,6 +277,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         // Expected response should have no tags
         final ResourceModel expectedResponse = desired.toBuilder()
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(Collections.emptySet())
             .build();
 
@@ -335,6 +347,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         // Expected response should remove "TEST_TAG_2" and add "TEST_TAG_3"
         final ResourceModel expectedResponse = desired.toBuilder()
             .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
             .tags(convertToSet(DESIRED_TAGS))
             .build();
 
@@ -394,6 +409,76 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_StackTagsChangedOnly() {
+
+        // Resource tags are unchanged
+        final ResourceModel desired = ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .tags(convertToSet(TEST_TAGS))
+            .build();
+
+        final ResourceModel previous = ResourceModel.builder()
+            .collectionId(TEST_COLLECTION_NAME)
+            .tags(convertToSet(TEST_TAGS))
+            .build();
+
+        final ResourceModel expectedResponse = desired.toBuilder()
+            .arn(TEST_COLLECTION_ARN)
+            .faceModelVersion(TEST_FACE_MODEL_VERSION)
+            .faceCount(TEST_FACE_COUNT.intValue())
+            .creationTimestamp(TEST_TIMESTAMP.toString())
+            .build();
+
+        final DescribeCollectionRequest describeCollectionRequest = Translator.translateToReadRequest(previous);
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                describeCollectionRequest,
+                proxyClient.client()::describeCollection
+            )).thenReturn(DEFAULT_DESCRIBE_RESPONSE);
+
+        // Only the dropped stack tag is removed
+        UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
+            .resourceArn(TEST_COLLECTION_ARN)
+            .tagKeys("STACK_TAG_2")
+            .build();
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                untagResourceRequest,
+                proxyClient.client()::untagResource
+            )).thenReturn(UntagResourceResponse.builder().build());
+
+        // Only the changed stack tag is written, the unchanged resource tags are not sent again
+        TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
+            .resourceArn(TEST_COLLECTION_ARN)
+            .tags(ImmutableMap.of("STACK_TAG_1", "STACK_VALUE_NEW"))
+            .build();
+        when(
+            proxyClient.injectCredentialsAndInvokeV2(
+                tagResourceRequest,
+                proxyClient.client()::tagResource
+            )).thenReturn(TagResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previous)
+            .desiredResourceState(desired)
+            .previousResourceTags(ImmutableMap.of("STACK_TAG_1", "STACK_VALUE_OLD", "STACK_TAG_2", "STACK_VALUE_2"))
+            .desiredResourceTags(ImmutableMap.of("STACK_TAG_1", "STACK_VALUE_NEW"))
+            .systemTags(ImmutableMap.of("aws:cloudformation:stack-name", "test-stack"))
+            .build();
+
+        stubReadHandler(expectedResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResponse);
+        verify(sdkClient).untagResource(untagResourceRequest);
+        verify(sdkClient).tagResource(tagResourceRequest);
+    }
+
     @Test
     public void handleRequest_ResourceDoesNotExist() {
         stubAndThrowExceptionForDescribeCollection(
@@ -0,0 +1,59 @@
+package software.amazon.rekognition.emulator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Behaviour of a {@link RekognitionEmulator}. The defaults answer instantly, never throttle and return pages as
+ * large as the caller asks for.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class EmulatorConfig {
+
+    /**
+     * Time every API call takes before it is served.
+     */
+    @Builder.Default
+    private final Duration latency = Duration.ZERO;
+
+    /**
+     * Upper bound for the page size of list and describe calls, on top of the MaxResults of the request.
+     * A small value forces callers through many pages.
+     */
+    @Builder.Default
+    private final int maxPageSize = Integer.MAX_VALUE;
+
+    /**
+     * Calls per second across all APIs before ThrottlingException is thrown, or 0 for no limit.
+     */
+    @Builder.Default
+    private final double maxRequestsPerSecond = 0;
+
+    /**
+     * Time a project stays CREATING before DescribeProjects reports it as CREATED.
+     */
+    @Builder.Default
+    private final Duration projectCreationTime = Duration.ZERO;
+
+    /**
+     * Time a project stays DELETING after DeleteProject before it disappears from DescribeProjects.
+     */
+    @Builder.Default
+    private final Duration projectDeletionTime = Duration.ZERO;
+
+    @Builder.Default
+    private final String partition = "aws";
+
+    @Builder.Default
+    private final String region = "us-east-1";
+
+    @Builder.Default
+    private final String accountId = "123456789012";
+
+    public static EmulatorConfig defaults() {
+        return EmulatorConfig.builder().build();
+    }
+}
@@ -0,0 +1,158 @@
+package software.amazon.rekognition.emulator;
+
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.RekognitionServiceClientConfiguration;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsRequest;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionResponse;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.TagResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceResponse;
+
+/**
+ * A {@link RekognitionClient} served by a {@link RekognitionEmulator} in the same JVM, without marshalling or HTTP.
+ * The consumer-builder overloads and paginators of the interface delegate to the methods below. Any other API
+ * throws UnsupportedOperationException.
+ */
+public class InMemoryRekognitionClient implements RekognitionClient {
+
+    private final RekognitionEmulator emulator;
+
+    public InMemoryRekognitionClient(final RekognitionEmulator emulator) {
+        this.emulator = emulator;
+    }
+
+    public RekognitionEmulator getEmulator() {
+        return emulator;
+    }
+
+    @Override
+    public CreateCollectionResponse createCollection(final CreateCollectionRequest request) {
+        return emulator.createCollection(request);
+    }
+
+    @Override
+    public DescribeCollectionResponse describeCollection(final DescribeCollectionRequest request) {
+        return emulator.describeCollection(request);
+    }
+
+    @Override
+    public DeleteCollectionResponse deleteCollection(final DeleteCollectionRequest request) {
+        return emulator.deleteCollection(request);
+    }
+
+    @Override
+    public ListCollectionsResponse listCollections(final ListCollectionsRequest request) {
+        return emulator.listCollections(request);
+    }
+
+    @Override
+    public IndexFacesResponse indexFaces(final IndexFacesRequest request) {
+        return emulator.indexFaces(request);
+    }
+
+    @Override
+    public ListFacesResponse listFaces(final ListFacesRequest request) {
+        return emulator.listFaces(request);
+    }
+
+    @Override
+    public DeleteFacesResponse deleteFaces(final DeleteFacesRequest request) {
+        return emulator.deleteFaces(request);
+    }
+
+    @Override
+    public CreateProjectResponse createProject(final CreateProjectRequest request) {
+        return emulator.createProject(request);
+    }
+
+    @Override
+    public DescribeProjectsResponse describeProjects(final DescribeProjectsRequest request) {
+        return emulator.describeProjects(request);
+    }
+
+    @Override
+    public DeleteProjectResponse deleteProject(final DeleteProjectRequest request) {
+        return emulator.deleteProject(request);
+    }
+
+    @Override
+    public DescribeProjectVersionsResponse describeProjectVersions(final DescribeProjectVersionsRequest request) {
+        return emulator.describeProjectVersions(request);
+    }
+
+    @Override
+    public StopProjectVersionResponse stopProjectVersion(final StopProjectVersionRequest request) {
+        return emulator.stopProjectVersion(request);
+    }
+
+    @Override
+    public DeleteProjectVersionResponse deleteProjectVersion(final DeleteProjectVersionRequest request) {
+        return emulator.deleteProjectVersion(request);
+    }
+
+    @Override
+    public DeleteDatasetResponse deleteDataset(final DeleteDatasetRequest request) {
+        return emulator.deleteDataset(request);
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return emulator.tagResource(request);
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return emulator.untagResource(request);
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return emulator.listTagsForResource(request);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public RekognitionServiceClientConfiguration serviceClientConfiguration() {
+        return RekognitionServiceClientConfiguration.builder()
+            .region(Region.of(emulator.getConfig().getRegion()))
+            .build();
+    }
+
+    @Override
+    public void close() {
+    }
+}
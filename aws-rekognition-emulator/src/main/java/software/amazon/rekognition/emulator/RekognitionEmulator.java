@@ -0,0 +1,517 @@
+package software.amazon.rekognition.emulator;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.Face;
+import software.amazon.awssdk.services.rekognition.model.FaceRecord;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.InvalidParameterException;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsRequest;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
+import software.amazon.awssdk.services.rekognition.model.RekognitionException;
+import software.amazon.awssdk.services.rekognition.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.rekognition.model.ResourceInUseException;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionResponse;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.TagResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A stateful, in-memory stand-in for the Rekognition control plane APIs the resource handlers call: collections,
+ * faces, projects (without model versions or datasets) and tags.
+ * <p>
+ * Every call first passes the throttle and waits out the configured latency, both outside the state lock so
+ * concurrent callers overlap like they would against the service, and then runs under a single lock.
+ * Errors are thrown as the same modelled exceptions the SDK raises, with the error code and a 400 status set.
+ * Use it directly through {@link InMemoryRekognitionClient}, or over HTTP through {@link RekognitionEmulatorServer}.
+ */
+public class RekognitionEmulator {
+
+    static final String FACE_MODEL_VERSION = "7.0";
+
+    private final EmulatorConfig config;
+    private final Throttle throttle;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final Map<String, CollectionState> collections = new TreeMap<>();
+    private final Map<String, ProjectState> projects = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tagsByArn = new HashMap<>();
+
+    public RekognitionEmulator() {
+        this(EmulatorConfig.defaults());
+    }
+
+    public RekognitionEmulator(final EmulatorConfig config) {
+        this.config = config;
+        this.throttle = new Throttle(config.getMaxRequestsPerSecond());
+    }
+
+    public EmulatorConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return the number of calls received so far, including throttled ones
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Drops all collections, projects and tags. The request count is kept.
+     */
+    public synchronized void reset() {
+        collections.clear();
+        projects.clear();
+        tagsByArn.clear();
+    }
+
+    public CreateCollectionResponse createCollection(final CreateCollectionRequest request) {
+        admit();
+        synchronized (this) {
+            final String collectionId = required("CollectionId", request.collectionId());
+            if (collections.containsKey(collectionId)) {
+                throw error(ResourceAlreadyExistsException.builder(), "ResourceAlreadyExistsException",
+                    String.format("The collection id: %s already exists", collectionId));
+            }
+            final CollectionState collection = new CollectionState(
+                collectionId, arn("collection/" + collectionId), Instant.now());
+            collections.put(collectionId, collection);
+            tagsByArn.put(collection.arn, request.hasTags() ? new HashMap<>(request.tags()) : new HashMap<>());
+            return CreateCollectionResponse.builder()
+                .statusCode(200)
+                .collectionArn(collection.arn)
+                .faceModelVersion(FACE_MODEL_VERSION)
+                .build();
+        }
+    }
+
+    public DescribeCollectionResponse describeCollection(final DescribeCollectionRequest request) {
+        admit();
+        synchronized (this) {
+            final CollectionState collection = collection(request.collectionId());
+            return DescribeCollectionResponse.builder()
+                .collectionARN(collection.arn)
+                .faceCount((long) collection.faces.size())
+                .faceModelVersion(FACE_MODEL_VERSION)
+                .creationTimestamp(collection.createdAt)
+                .build();
+        }
+    }
+
+    public DeleteCollectionResponse deleteCollection(final DeleteCollectionRequest request) {
+        admit();
+        synchronized (this) {
+            final CollectionState collection = collection(request.collectionId());
+            collections.remove(collection.id);
+            tagsByArn.remove(collection.arn);
+            return DeleteCollectionResponse.builder()
+                .statusCode(200)
+                .build();
+        }
+    }
+
+    public ListCollectionsResponse listCollections(final ListCollectionsRequest request) {
+        admit();
+        synchronized (this) {
+            final Page<String> page = page(new ArrayList<>(collections.keySet()),
+                request.maxResults(), request.nextToken());
+            return ListCollectionsResponse.builder()
+                .collectionIds(page.items)
+                .faceModelVersions(Collections.nCopies(page.items.size(), FACE_MODEL_VERSION))
+                .nextToken(page.nextToken)
+                .build();
+        }
+    }
+
+    /**
+     * Indexes one face per image. The image is not read, so any S3 object or byte array is accepted.
+     */
+    public IndexFacesResponse indexFaces(final IndexFacesRequest request) {
+        admit();
+        synchronized (this) {
+            final CollectionState collection = collection(request.collectionId());
+            if (request.image() == null) {
+                throw error(InvalidParameterException.builder(), "InvalidParameterException", "Image is required");
+            }
+            final Face face = Face.builder()
+                .faceId(UUID.randomUUID().toString())
+                .imageId(UUID.randomUUID().toString())
+                .externalImageId(request.externalImageId())
+                .confidence(99.9f)
+                .indexFacesModelVersion(FACE_MODEL_VERSION)
+                .build();
+            collection.faces.put(face.faceId(), face);
+            return IndexFacesResponse.builder()
+                .faceRecords(FaceRecord.builder().face(face).build())
+                .faceModelVersion(FACE_MODEL_VERSION)
+                .build();
+        }
+    }
+
+    public ListFacesResponse listFaces(final ListFacesRequest request) {
+        admit();
+        synchronized (this) {
+            final CollectionState collection = collection(request.collectionId());
+            final Page<Face> page = page(new ArrayList<>(collection.faces.values()),
+                request.maxResults(), request.nextToken());
+            return ListFacesResponse.builder()
+                .faces(page.items)
+                .faceModelVersion(FACE_MODEL_VERSION)
+                .nextToken(page.nextToken)
+                .build();
+        }
+    }
+
+    public DeleteFacesResponse deleteFaces(final DeleteFacesRequest request) {
+        admit();
+        synchronized (this) {
+            final CollectionState collection = collection(request.collectionId());
+            final List<String> deletedFaces = request.faceIds().stream()
+                .filter(faceId -> collection.faces.remove(faceId) != null)
+                .collect(Collectors.toList());
+            return DeleteFacesResponse.builder()
+                .deletedFaces(deletedFaces)
+                .build();
+        }
+    }
+
+    public CreateProjectResponse createProject(final CreateProjectRequest request) {
+        admit();
+        synchronized (this) {
+            expireDeletedProjects();
+            final String projectName = required("ProjectName", request.projectName());
+            if (projects.containsKey(projectName)) {
+                throw error(ResourceInUseException.builder(), "ResourceInUseException",
+                    String.format("The project name: %s is already in use", projectName));
+            }
+            final Instant now = Instant.now();
+            final ProjectState project = new ProjectState(
+                projectName, arn(String.format("project/%s/%d", projectName, now.toEpochMilli())), now);
+            projects.put(projectName, project);
+            tagsByArn.put(project.arn, request.hasTags() ? new HashMap<>(request.tags()) : new HashMap<>());
+            return CreateProjectResponse.builder()
+                .projectArn(project.arn)
+                .build();
+        }
+    }
+
+    public DescribeProjectsResponse describeProjects(final DescribeProjectsRequest request) {
+        admit();
+        synchronized (this) {
+            expireDeletedProjects();
+            final List<ProjectDescription> descriptions = projects.values().stream()
+                .filter(project -> !request.hasProjectNames() || request.projectNames().contains(project.name))
+                .map(this::describe)
+                .collect(Collectors.toList());
+            final Page<ProjectDescription> page = page(descriptions, request.maxResults(), request.nextToken());
+            return DescribeProjectsResponse.builder()
+                .projectDescriptions(page.items)
+                .nextToken(page.nextToken)
+                .build();
+        }
+    }
+
+    public DeleteProjectResponse deleteProject(final DeleteProjectRequest request) {
+        admit();
+        synchronized (this) {
+            expireDeletedProjects();
+            final ProjectState project = projectByArn(request.projectArn());
+            if (project.deletedAt == null) {
+                project.deletedAt = Instant.now();
+                tagsByArn.remove(project.arn);
+            }
+            expireDeletedProjects();
+            return DeleteProjectResponse.builder()
+                .status(ProjectStatus.DELETING)
+                .build();
+        }
+    }
+
+    /**
+     * Model versions are not emulated, every existing project has none.
+     */
+    public DescribeProjectVersionsResponse describeProjectVersions(final DescribeProjectVersionsRequest request) {
+        admit();
+        synchronized (this) {
+            expireDeletedProjects();
+            projectByArn(request.projectArn());
+            return DescribeProjectVersionsResponse.builder()
+                .projectVersionDescriptions(Collections.emptyList())
+                .build();
+        }
+    }
+
+    public StopProjectVersionResponse stopProjectVersion(final StopProjectVersionRequest request) {
+        admit();
+        throw notFound("Project version " + request.projectVersionArn());
+    }
+
+    public DeleteProjectVersionResponse deleteProjectVersion(final DeleteProjectVersionRequest request) {
+        admit();
+        throw notFound("Project version " + request.projectVersionArn());
+    }
+
+    public DeleteDatasetResponse deleteDataset(final DeleteDatasetRequest request) {
+        admit();
+        throw notFound("Dataset " + request.datasetArn());
+    }
+
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        admit();
+        synchronized (this) {
+            tags(request.resourceArn()).putAll(request.tags());
+            return TagResourceResponse.builder().build();
+        }
+    }
+
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        admit();
+        synchronized (this) {
+            tags(request.resourceArn()).keySet().removeAll(request.tagKeys());
+            return UntagResourceResponse.builder().build();
+        }
+    }
+
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        admit();
+        synchronized (this) {
+            return ListTagsForResourceResponse.builder()
+                .tags(new HashMap<>(tags(request.resourceArn())))
+                .build();
+        }
+    }
+
+    private void admit() {
+        requestCount.incrementAndGet();
+        if (!throttle.tryAcquire()) {
+            throw error(ThrottlingException.builder(), "ThrottlingException", "Rate exceeded");
+        }
+        final long latencyNanos = config.getLatency().toNanos();
+        if (latencyNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private CollectionState collection(final String collectionId) {
+        final CollectionState collection = collections.get(required("CollectionId", collectionId));
+        if (collection == null) {
+            throw notFound("Collection " + collectionId);
+        }
+        return collection;
+    }
+
+    private ProjectState projectByArn(final String projectArn) {
+        required("ProjectArn", projectArn);
+        return projects.values().stream()
+            .filter(project -> project.arn.equals(projectArn))
+            .findFirst()
+            .orElseThrow(() -> notFound("Project " + projectArn));
+    }
+
+    private Map<String, String> tags(final String resourceArn) {
+        final Map<String, String> tags = tagsByArn.get(required("ResourceArn", resourceArn));
+        if (tags == null) {
+            throw notFound("Resource " + resourceArn);
+        }
+        return tags;
+    }
+
+    private ProjectDescription describe(final ProjectState project) {
+        final ProjectStatus status;
+        if (project.deletedAt != null) {
+            status = ProjectStatus.DELETING;
+        } else if (Instant.now().isBefore(project.createdAt.plus(config.getProjectCreationTime()))) {
+            status = ProjectStatus.CREATING;
+        } else {
+            status = ProjectStatus.CREATED;
+        }
+        return ProjectDescription.builder()
+            .projectArn(project.arn)
+            .creationTimestamp(project.createdAt)
+            .status(status)
+            .build();
+    }
+
+    private void expireDeletedProjects() {
+        final Instant now = Instant.now();
+        final Iterator<ProjectState> iterator = projects.values().iterator();
+        while (iterator.hasNext()) {
+            final ProjectState project = iterator.next();
+            if (project.deletedAt != null && !now.isBefore(project.deletedAt.plus(config.getProjectDeletionTime()))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Cuts a page out of a full listing. The token is the offset of the next item, so a listing that changes
+     * between pages behaves like an offset-based listing on the service side.
+     */
+    private <T> Page<T> page(final List<T> items, final Integer maxResults, final String nextToken) {
+        int from = 0;
+        if (nextToken != null) {
+            try {
+                from = Integer.parseInt(nextToken);
+            } catch (final NumberFormatException e) {
+                from = -1;
+            }
+            if (from < 0 || from > items.size()) {
+                throw error(InvalidPaginationTokenException.builder(), "InvalidPaginationTokenException",
+                    "Invalid pagination token: " + nextToken);
+            }
+        }
+        int size = Math.min(maxResults != null ? maxResults : Integer.MAX_VALUE, config.getMaxPageSize());
+        if (size < 1) {
+            throw error(InvalidParameterException.builder(), "InvalidParameterException",
+                "MaxResults must be at least 1");
+        }
+        final int to = (int) Math.min((long) from + size, items.size());
+        return new Page<>(new ArrayList<>(items.subList(from, to)), to < items.size() ? String.valueOf(to) : null);
+    }
+
+    private String arn(final String resource) {
+        return String.format("arn:%s:rekognition:%s:%s:%s",
+            config.getPartition(), config.getRegion(), config.getAccountId(), resource);
+    }
+
+    private static String required(final String name, final String value) {
+        if (value == null || value.isEmpty()) {
+            throw error(InvalidParameterException.builder(), "InvalidParameterException", name + " is required");
+        }
+        return value;
+    }
+
+    private static RekognitionException notFound(final String resource) {
+        return error(ResourceNotFoundException.builder(), "ResourceNotFoundException",
+            resource + " does not exist");
+    }
+
+    private static RekognitionException error(final RekognitionException.Builder builder,
+                                              final String errorCode,
+                                              final String message) {
+        return (RekognitionException) builder
+            .message(message)
+            .statusCode(400)
+            .awsErrorDetails(AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("Rekognition")
+                .build())
+            .build();
+    }
+
+    private static final class CollectionState {
+        private final String id;
+        private final String arn;
+        private final Instant createdAt;
+        private final Map<String, Face> faces = new LinkedHashMap<>();
+
+        private CollectionState(final String id, final String arn, final Instant createdAt) {
+            this.id = id;
+            this.arn = arn;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class ProjectState {
+        private final String name;
+        private final String arn;
+        private final Instant createdAt;
+        private Instant deletedAt;
+
+        private ProjectState(final String name, final String arn, final Instant createdAt) {
+            this.name = name;
+            this.arn = arn;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+
+    /**
+     * A token bucket holding up to one second of requests.
+     */
+    private static final class Throttle {
+        private final double permitsPerSecond;
+        private double permits;
+        private long refilledAt = System.nanoTime();
+
+        private Throttle(final double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.permits = Math.max(1, permitsPerSecond);
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (permitsPerSecond <= 0) {
+                return true;
+            }
+            final long now = System.nanoTime();
+            permits = Math.min(Math.max(1, permitsPerSecond),
+                permits + (now - refilledAt) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            refilledAt = now;
+            if (permits < 1) {
+                return false;
+            }
+            permits -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package software.amazon.rekognition.emulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.services.rekognition.model.CreateCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
+import software.amazon.awssdk.services.rekognition.model.IndexFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsRequest;
+import software.amazon.awssdk.services.rekognition.model.ListFacesRequest;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceRequest;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serves a {@link RekognitionEmulator} over HTTP in the AWS JSON 1.1 protocol, so an SDK client built with
+ * {@code endpointOverride(server.endpoint())} runs its full marshalling, signing, HTTP and retry stack against it.
+ * Requests are dispatched on the {@code X-Amz-Target} header and signatures are not checked.
+ * <p>
+ * Run it standalone with {@code java -jar rekognition-emulator.jar [port] [latencyMillis] [maxRequestsPerSecond]
+ * [maxPageSize]}.
+ */
+public final class RekognitionEmulatorServer implements AutoCloseable {
+
+    private static final String TARGET_PREFIX = "RekognitionService.";
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.1";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final RekognitionEmulator emulator;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Operation<?>> operations = new HashMap<>();
+
+    private RekognitionEmulatorServer(final RekognitionEmulator emulator, final int port) throws IOException {
+        this.emulator = emulator;
+        register("CreateCollection", CreateCollectionRequest::builder, emulator::createCollection);
+        register("DescribeCollection", DescribeCollectionRequest::builder, emulator::describeCollection);
+        register("DeleteCollection", DeleteCollectionRequest::builder, emulator::deleteCollection);
+        register("ListCollections", ListCollectionsRequest::builder, emulator::listCollections);
+        register("IndexFaces", IndexFacesRequest::builder, emulator::indexFaces);
+        register("ListFaces", ListFacesRequest::builder, emulator::listFaces);
+        register("DeleteFaces", DeleteFacesRequest::builder, emulator::deleteFaces);
+        register("CreateProject", CreateProjectRequest::builder, emulator::createProject);
+        register("DescribeProjects", DescribeProjectsRequest::builder, emulator::describeProjects);
+        register("DeleteProject", DeleteProjectRequest::builder, emulator::deleteProject);
+        register("DescribeProjectVersions", DescribeProjectVersionsRequest::builder, emulator::describeProjectVersions);
+        register("StopProjectVersion", StopProjectVersionRequest::builder, emulator::stopProjectVersion);
+        register("DeleteProjectVersion", DeleteProjectVersionRequest::builder, emulator::deleteProjectVersion);
+        register("DeleteDataset", DeleteDatasetRequest::builder, emulator::deleteDataset);
+        register("TagResource", TagResourceRequest::builder, emulator::tagResource);
+        register("UntagResource", UntagResourceRequest::builder, emulator::untagResource);
+        register("ListTagsForResource", ListTagsForResourceRequest::builder, emulator::listTagsForResource);
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "rekognition-emulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts a server on the loopback interface.
+     *
+     * @param emulator the emulator to serve
+     * @param port the port to listen on, or 0 for any free port
+     * @return the running server
+     */
+    public static RekognitionEmulatorServer start(final RekognitionEmulator emulator, final int port)
+        throws IOException {
+        final RekognitionEmulatorServer emulatorServer = new RekognitionEmulatorServer(emulator, port);
+        emulatorServer.server.start();
+        return emulatorServer;
+    }
+
+    public RekognitionEmulator getEmulator() {
+        return emulator;
+    }
+
+    /**
+     * @return the endpoint to pass to {@code RekognitionClient.builder().endpointOverride(...)}
+     */
+    public URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private <RequestT> void register(final String name,
+                                     final Supplier<? extends SdkBuilder<?, RequestT>> builder,
+                                     final Function<RequestT, ? extends SdkPojo> handler) {
+        operations.put(name, new Operation<>(builder, handler));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            final String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+            final Operation<?> operation = target != null && target.startsWith(TARGET_PREFIX)
+                ? operations.get(target.substring(TARGET_PREFIX.length()))
+                : null;
+            if (operation == null) {
+                respondWithError(exchange, 400, "UnknownOperationException", "Unsupported target: " + target);
+                return;
+            }
+            final byte[] response;
+            try {
+                response = SdkJsonCodec.write(operation.invoke(body));
+            } catch (final AwsServiceException e) {
+                respondWithError(exchange, e.statusCode(),
+                    e.awsErrorDetails().errorCode(), e.awsErrorDetails().errorMessage());
+                return;
+            } catch (final IOException | RuntimeException e) {
+                respondWithError(exchange, 400, "SerializationException", String.valueOf(e.getMessage()));
+                return;
+            }
+            respond(exchange, 200, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respondWithError(final HttpExchange exchange,
+                                         final int status,
+                                         final String errorCode,
+                                         final String message) throws IOException {
+        final ObjectNode error = MAPPER.createObjectNode()
+            .put("__type", errorCode)
+            .put("message", message);
+        exchange.getResponseHeaders().set("x-amzn-ErrorType", errorCode);
+        respond(exchange, status, MAPPER.writeValueAsBytes(error));
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set("x-amzn-RequestId", UUID.randomUUID().toString());
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static final class Operation<RequestT> {
+        private final Supplier<? extends SdkBuilder<?, RequestT>> builder;
+        private final Function<RequestT, ? extends SdkPojo> handler;
+
+        private Operation(final Supplier<? extends SdkBuilder<?, RequestT>> builder,
+                          final Function<RequestT, ? extends SdkPojo> handler) {
+            this.builder = builder;
+            this.handler = handler;
+        }
+
+        private SdkPojo invoke(final InputStream body) throws IOException {
+            return handler.apply(SdkJsonCodec.read(body, builder.get()));
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        final EmulatorConfig.EmulatorConfigBuilder config = EmulatorConfig.builder();
+        if (args.length > 1) {
+            config.latency(Duration.ofMillis(Long.parseLong(args[1])));
+        }
+        if (args.length > 2) {
+            config.maxRequestsPerSecond(Double.parseDouble(args[2]));
+        }
+        if (args.length > 3) {
+            config.maxPageSize(Integer.parseInt(args[3]));
+        }
+        final RekognitionEmulatorServer emulatorServer = start(new RekognitionEmulator(config.build()), port);
+        Runtime.getRuntime().addShutdownHook(new Thread(emulatorServer::close));
+        System.out.println("Rekognition emulator listening on " + emulatorServer.endpoint());
+    }
+}
@@ -0,0 +1,163 @@
+package software.amazon.rekognition.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes SDK model objects in the AWS JSON 1.1 wire format that Rekognition uses. The mapping is driven
+ * by the {@link SdkField} metadata of each shape, so every request and response type is covered without
+ * per-operation code: members use their location names, timestamps are epoch seconds and blobs are base64.
+ */
+final class SdkJsonCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private SdkJsonCodec() {
+    }
+
+    /**
+     * Fills a model builder from a JSON document. Unknown members are ignored.
+     *
+     * @param body the JSON document, an empty body is read as an empty object
+     * @param builder the builder of the model, for example {@code CreateCollectionRequest.builder()}
+     * @return the built model
+     */
+    static <T> T read(final InputStream body, final SdkBuilder<?, T> builder) throws IOException {
+        final JsonNode json = MAPPER.readTree(body);
+        if (json != null && json.isObject()) {
+            readFields(json, (SdkPojo) builder);
+        }
+        return builder.build();
+    }
+
+    static byte[] write(final SdkPojo pojo) throws IOException {
+        return MAPPER.writeValueAsBytes(toJson(pojo));
+    }
+
+    static ObjectNode toJson(final SdkPojo pojo) {
+        final ObjectNode json = NODES.objectNode();
+        for (SdkField<?> field : pojo.sdkFields()) {
+            final Object value = field.getValueOrDefault(pojo);
+            if (value != null && !(value instanceof SdkAutoConstructList) && !(value instanceof SdkAutoConstructMap)) {
+                json.set(field.locationName(), toJson(field, value));
+            }
+        }
+        return json;
+    }
+
+    private static JsonNode toJson(final SdkField<?> field, final Object value) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return toJson((SdkPojo) value);
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> member = field.getTrait(ListTrait.class).memberFieldInfo();
+            final ArrayNode array = NODES.arrayNode();
+            for (Object item : (List<?>) value) {
+                array.add(item == null ? NODES.nullNode() : toJson(member, item));
+            }
+            return array;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> valueField = field.getTrait(MapTrait.class).valueFieldInfo();
+            final ObjectNode object = NODES.objectNode();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                object.set(String.valueOf(entry.getKey()),
+                    entry.getValue() == null ? NODES.nullNode() : toJson(valueField, entry.getValue()));
+            }
+            return object;
+        }
+        if (type == MarshallingType.INSTANT) {
+            return NODES.numberNode(BigDecimal.valueOf(((Instant) value).toEpochMilli()).movePointLeft(3));
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return NODES.textNode(Base64.getEncoder().encodeToString(((SdkBytes) value).asByteArray()));
+        }
+        return MAPPER.valueToTree(value);
+    }
+
+    private static void readFields(final JsonNode json, final SdkPojo builder) {
+        for (SdkField<?> field : builder.sdkFields()) {
+            final JsonNode value = json.get(field.locationName());
+            if (value != null && !value.isNull()) {
+                field.set(builder, fromJson(field, value));
+            }
+        }
+    }
+
+    private static Object fromJson(final SdkField<?> field, final JsonNode json) {
+        final MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            final SdkPojo builder = field.constructor().get();
+            readFields(json, builder);
+            return ((SdkBuilder<?, ?>) builder).build();
+        }
+        if (type == MarshallingType.LIST) {
+            final SdkField<?> member = field.getTrait(ListTrait.class).memberFieldInfo();
+            final List<Object> list = new ArrayList<>();
+            for (JsonNode item : json) {
+                list.add(item.isNull() ? null : fromJson(member, item));
+            }
+            return list;
+        }
+        if (type == MarshallingType.MAP) {
+            final SdkField<?> valueField = field.getTrait(MapTrait.class).valueFieldInfo();
+            final Map<String, Object> map = new LinkedHashMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> entries = json.fields();
+            while (entries.hasNext()) {
+                final Map.Entry<String, JsonNode> entry = entries.next();
+                map.put(entry.getKey(), entry.getValue().isNull() ? null : fromJson(valueField, entry.getValue()));
+            }
+            return map;
+        }
+        if (type == MarshallingType.STRING) {
+            return json.asText();
+        }
+        if (type == MarshallingType.INTEGER) {
+            return json.asInt();
+        }
+        if (type == MarshallingType.LONG) {
+            return json.asLong();
+        }
+        if (type == MarshallingType.FLOAT) {
+            return (float) json.asDouble();
+        }
+        if (type == MarshallingType.DOUBLE) {
+            return json.asDouble();
+        }
+        if (type == MarshallingType.BOOLEAN) {
+            return json.asBoolean();
+        }
+        if (type == MarshallingType.INSTANT) {
+            return Instant.ofEpochMilli(json.decimalValue().movePointRight(3).longValue());
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return SdkBytes.fromByteArray(Base64.getDecoder().decode(json.asText()));
+        }
+        throw new IllegalArgumentException("Unsupported member type " + type + " of " + field.memberName());
+    }
+}
@@ -0,0 +1,150 @@
+package software.amazon.rekognition.emulator;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.CreateProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeCollectionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.Image;
+import software.amazon.awssdk.services.rekognition.model.InvalidPaginationTokenException;
+import software.amazon.awssdk.services.rekognition.model.ListCollectionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
+import software.amazon.awssdk.services.rekognition.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.rekognition.model.S3Object;
+import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RekognitionEmulatorTest {
+
+    private static final Image IMAGE = Image.builder()
+        .s3Object(S3Object.builder().bucket("images").name("face.jpg").build())
+        .build();
+
+    @Test
+    public void collectionLifecycle_InProcess() {
+        // Arrange
+        final RekognitionClient client = new InMemoryRekognitionClient(new RekognitionEmulator());
+
+        // Act
+        final String arn = client.createCollection(r -> r.collectionId("faces")
+            .tags(Collections.singletonMap("team", "vision"))).collectionArn();
+        client.indexFaces(r -> r.collectionId("faces").image(IMAGE).externalImageId("alice"));
+        client.tagResource(r -> r.resourceArn(arn).tags(Collections.singletonMap("stage", "beta")));
+        client.untagResource(r -> r.resourceArn(arn).tagKeys("team"));
+        final DescribeCollectionResponse described = client.describeCollection(r -> r.collectionId("faces"));
+
+        // Assert
+        assertThat(arn).isEqualTo("arn:aws:rekognition:us-east-1:123456789012:collection/faces");
+        assertThat(described.collectionARN()).isEqualTo(arn);
+        assertThat(described.faceCount()).isEqualTo(1L);
+        assertThat(client.listTagsForResource(r -> r.resourceArn(arn)).tags())
+            .containsOnlyKeys("stage");
+        assertThrows(ResourceAlreadyExistsException.class, () -> client.createCollection(r -> r.collectionId("faces")));
+
+        client.deleteCollection(r -> r.collectionId("faces"));
+        assertThrows(ResourceNotFoundException.class, () -> client.describeCollection(r -> r.collectionId("faces")));
+        assertThrows(ResourceNotFoundException.class, () -> client.listTagsForResource(r -> r.resourceArn(arn)));
+    }
+
+    @Test
+    public void listCollections_PagesAreCappedByConfig() {
+        // Arrange
+        final RekognitionClient client = new InMemoryRekognitionClient(
+            new RekognitionEmulator(EmulatorConfig.builder().maxPageSize(2).build()));
+        for (int i = 0; i < 5; i++) {
+            final String collectionId = "collection-" + i;
+            client.createCollection(r -> r.collectionId(collectionId));
+        }
+
+        // Act
+        final List<String> collectionIds = new ArrayList<>();
+        int pages = 0;
+        String nextToken = null;
+        do {
+            final String token = nextToken;
+            final ListCollectionsResponse page = client.listCollections(r -> r.maxResults(100).nextToken(token));
+            collectionIds.addAll(page.collectionIds());
+            nextToken = page.nextToken();
+            pages++;
+        } while (nextToken != null);
+
+        // Assert
+        assertThat(pages).isEqualTo(3);
+        assertThat(collectionIds).hasSize(5).doesNotHaveDuplicates();
+        assertThrows(InvalidPaginationTokenException.class, () -> client.listCollections(r -> r.nextToken("bad")));
+    }
+
+    @Test
+    public void projectLifecycle_ReportsTransitionalStatuses() {
+        // Arrange
+        final RekognitionClient client = new InMemoryRekognitionClient(new RekognitionEmulator(EmulatorConfig.builder()
+            .projectCreationTime(Duration.ofHours(1))
+            .projectDeletionTime(Duration.ofHours(1))
+            .build()));
+
+        // Act
+        final CreateProjectResponse created = client.createProject(r -> r.projectName("labels"));
+        final DescribeProjectsResponse creating = client.describeProjects(r -> r.projectNames("labels"));
+        client.deleteProject(r -> r.projectArn(created.projectArn()));
+        final DescribeProjectsResponse deleting = client.describeProjects(r -> r.projectNames("labels"));
+
+        // Assert
+        assertThat(creating.projectDescriptions()).hasSize(1);
+        assertThat(creating.projectDescriptions().get(0).status()).isEqualTo(ProjectStatus.CREATING);
+        assertThat(deleting.projectDescriptions().get(0).status()).isEqualTo(ProjectStatus.DELETING);
+        assertThat(client.describeProjectVersions(r -> r.projectArn(created.projectArn()))
+            .projectVersionDescriptions()).isEmpty();
+    }
+
+    @Test
+    public void throttling_RejectsCallsOverTheRate() {
+        // Arrange
+        final RekognitionClient client = new InMemoryRekognitionClient(
+            new RekognitionEmulator(EmulatorConfig.builder().maxRequestsPerSecond(1).build()));
+
+        // Act
+        client.listCollections(r -> { });
+
+        // Assert
+        assertThrows(ThrottlingException.class, () -> client.listCollections(r -> { }));
+    }
+
+    @Test
+    public void sdkClient_OverHttp() throws Exception {
+        // Arrange
+        try (RekognitionEmulatorServer server = RekognitionEmulatorServer.start(new RekognitionEmulator(), 0);
+             RekognitionClient client = RekognitionClient.builder()
+                 .endpointOverride(server.endpoint())
+                 .region(Region.US_EAST_1)
+                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "secret")))
+                 .overrideConfiguration(c -> c.retryPolicy(RetryPolicy.none()))
+                 .build()) {
+
+            // Act
+            client.createCollection(r -> r.collectionId("faces").tags(Collections.singletonMap("team", "vision")));
+            client.indexFaces(r -> r.collectionId("faces").image(IMAGE));
+            final DescribeCollectionResponse described = client.describeCollection(r -> r.collectionId("faces"));
+
+            // Assert
+            assertThat(described.faceCount()).isEqualTo(1L);
+            assertThat(described.creationTimestamp()).isNotNull();
+            assertThat(client.listFaces(r -> r.collectionId("faces")).faces()).hasSize(1);
+            assertThat(client.listTagsForResource(r -> r.resourceArn(described.collectionARN())).tags())
+                .containsEntry("team", "vision");
+            assertThrows(ResourceNotFoundException.class, () -> client.describeCollection(r -> r.collectionId("none")));
+            assertThat(server.getEmulator().getRequestCount()).isEqualTo(6);
+        }
+    }
+}
@@ -7,4 +7,11 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private String projectArn;
+    private int stabilizationRetries = 0;
+    private boolean deleteProjectRequested = false;
+    private boolean cascadeDeleteComplete = false;
+    private int stoppedProjectVersions = 0;
+    private int deletedProjectVersions = 0;
+    private int deletedDatasets = 0;
 }
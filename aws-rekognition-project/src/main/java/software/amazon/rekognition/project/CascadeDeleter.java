@@ -0,0 +1,219 @@
+package software.amazon.rekognition.project;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.DatasetMetadata;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectVersionDescription;
+import software.amazon.awssdk.services.rekognition.model.ResourceInUseException;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Removes the model versions and datasets of a project so that DeleteProject can succeed.
+ * <p>
+ * Every call lists the project's versions and datasets once and issues the requests that can make progress:
+ * running versions are stopped, versions in a final state are deleted, and so are datasets in a final state once
+ * no version of the project is training. The requests run on a {@link RateLimitedExecutor}. Resources that are
+ * still changing state or in use are left for the next call, so DeleteHandler calls this once per callback until
+ * the project has no versions and no datasets left. Only requests that succeeded, or found the resource already
+ * gone, are counted in the Result.
+ */
+class CascadeDeleter {
+
+    static final int DEFAULT_MAX_CONCURRENCY = 5;
+    static final int DEFAULT_MAX_REQUESTS_PER_SECOND = 5;
+
+    private final AmazonWebServicesClientProxy proxy;
+    private final RekognitionClient rekognitionClient;
+    private final Logger logger;
+    private final RateLimitedExecutor executor;
+
+    CascadeDeleter(final AmazonWebServicesClientProxy proxy,
+                   final RekognitionClient rekognitionClient,
+                   final Logger logger) {
+        this(proxy, rekognitionClient, logger, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_REQUESTS_PER_SECOND);
+    }
+
+    CascadeDeleter(final AmazonWebServicesClientProxy proxy,
+                   final RekognitionClient rekognitionClient,
+                   final Logger logger,
+                   final int maxConcurrency,
+                   final int maxRequestsPerSecond) {
+        this.proxy = proxy;
+        this.rekognitionClient = rekognitionClient;
+        this.logger = logger;
+        this.executor = new RateLimitedExecutor(maxConcurrency, maxRequestsPerSecond);
+    }
+
+    @lombok.Getter
+    @lombok.ToString
+    static class Result {
+        private int stoppedProjectVersions = 0;
+        private int deletedProjectVersions = 0;
+        private int deletedDatasets = 0;
+        private boolean complete = false;
+    }
+
+    /**
+     * Runs one pass over the project's versions and datasets.
+     *
+     * @param project the project whose resources are deleted, including its dataset metadata
+     * @return what was stopped and deleted, and whether the project had no versions and datasets left
+     */
+    Result deleteProjectResources(final ProjectDescription project) {
+        final Result result = new Result();
+        final List<ProjectVersionDescription> projectVersions = listProjectVersions(project.projectArn());
+        final List<DatasetMetadata> datasets = project.datasets();
+
+        if (projectVersions.isEmpty() && datasets.isEmpty()) {
+            result.complete = true;
+            return result;
+        }
+
+        final AtomicInteger stoppedProjectVersions = new AtomicInteger();
+        final AtomicInteger deletedProjectVersions = new AtomicInteger();
+        final AtomicInteger deletedDatasets = new AtomicInteger();
+        final List<Callable<Void>> requests = new ArrayList<>();
+        boolean training = false;
+
+        for (ProjectVersionDescription projectVersion : projectVersions) {
+            final String projectVersionArn = projectVersion.projectVersionArn();
+            if (projectVersion.status() == null) {
+                continue;
+            }
+            switch (projectVersion.status()) {
+                case RUNNING:
+                    requests.add(() -> countIfDone(stopProjectVersion(projectVersionArn), stoppedProjectVersions));
+                    break;
+                case TRAINING_IN_PROGRESS:
+                    training = true;
+                    break;
+                case STARTING:
+                case STOPPING:
+                case DELETING:
+                    break;
+                default:
+                    requests.add(() -> countIfDone(deleteProjectVersion(projectVersionArn), deletedProjectVersions));
+                    break;
+            }
+        }
+
+        // Datasets can only be deleted once no version is training from them
+        final List<DatasetMetadata> deletableDatasets = training ? Collections.emptyList() : datasets;
+        for (DatasetMetadata dataset : deletableDatasets) {
+            final String datasetArn = dataset.datasetArn();
+            if (dataset.status() == null) {
+                continue;
+            }
+            switch (dataset.status()) {
+                case CREATE_IN_PROGRESS:
+                case UPDATE_IN_PROGRESS:
+                case DELETE_IN_PROGRESS:
+                    break;
+                default:
+                    requests.add(() -> countIfDone(deleteDataset(datasetArn), deletedDatasets));
+                    break;
+            }
+        }
+
+        executor.runAll(requests);
+
+        result.stoppedProjectVersions = stoppedProjectVersions.get();
+        result.deletedProjectVersions = deletedProjectVersions.get();
+        result.deletedDatasets = deletedDatasets.get();
+
+        logger.log(String.format("Project: %s cascade delete pass: %s", project.projectArn(), result));
+        return result;
+    }
+
+    private List<ProjectVersionDescription> listProjectVersions(final String projectArn) {
+        final List<ProjectVersionDescription> projectVersions = new ArrayList<>();
+        String nextToken = null;
+
+        do {
+            final DescribeProjectVersionsRequest describeProjectVersionsRequest = DescribeProjectVersionsRequest.builder()
+                    .projectArn(projectArn)
+                    .nextToken(nextToken)
+                    .build();
+
+            final DescribeProjectVersionsResponse describeProjectVersionsResponse = proxy.injectCredentialsAndInvokeV2(
+                    describeProjectVersionsRequest,
+                    rekognitionClient::describeProjectVersions);
+
+            projectVersions.addAll(describeProjectVersionsResponse.projectVersionDescriptions());
+            nextToken = describeProjectVersionsResponse.nextToken();
+        } while (nextToken != null);
+
+        return projectVersions;
+    }
+
+    private boolean stopProjectVersion(final String projectVersionArn) {
+        final StopProjectVersionRequest stopProjectVersionRequest = StopProjectVersionRequest.builder()
+                .projectVersionArn(projectVersionArn)
+                .build();
+        return invokeIgnoringTransientErrors(() -> proxy.injectCredentialsAndInvokeV2(
+                stopProjectVersionRequest,
+                rekognitionClient::stopProjectVersion));
+    }
+
+    private boolean deleteProjectVersion(final String projectVersionArn) {
+        final DeleteProjectVersionRequest deleteProjectVersionRequest = DeleteProjectVersionRequest.builder()
+                .projectVersionArn(projectVersionArn)
+                .build();
+        return invokeIgnoringTransientErrors(() -> proxy.injectCredentialsAndInvokeV2(
+                deleteProjectVersionRequest,
+                rekognitionClient::deleteProjectVersion));
+    }
+
+    private boolean deleteDataset(final String datasetArn) {
+        final DeleteDatasetRequest deleteDatasetRequest = DeleteDatasetRequest.builder()
+                .datasetArn(datasetArn)
+                .build();
+        return invokeIgnoringTransientErrors(() -> proxy.injectCredentialsAndInvokeV2(
+                deleteDatasetRequest,
+                rekognitionClient::deleteDataset));
+    }
+
+    /**
+     * A resource that is already gone needs no further work, and a resource that is still in use
+     * is picked up again by the next pass, so neither fails the delete.
+     *
+     * @return true if the request succeeded or the resource was already gone, false if it was in use
+     */
+    private boolean invokeIgnoringTransientErrors(final Runnable request) {
+        try {
+            executor.acquirePermit();
+            request.run();
+            return true;
+        } catch (ResourceNotFoundException e) {
+            logger.log(e.getMessage());
+            return true;
+        } catch (ResourceInUseException e) {
+            logger.log(e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Void countIfDone(final boolean done, final AtomicInteger count) {
+        if (done) {
+            count.incrementAndGet();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+package software.amazon.rekognition.project;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds a client that lives across invocations, and across CRaC checkpoint and restore.
+ * <p>
+ * Before a checkpoint the client is closed, which closes its connection pool and drops the credentials it
+ * cached, so the snapshot holds no sockets and no credentials. After restore a new client is built from the
+ * factory. Holders are notified in reverse order of creation before a checkpoint and in order after restore, so
+ * a client is closed before the HTTP client it uses and rebuilt after it. On a JVM without CRaC the hooks are
+ * never called.
+ */
+final class CheckpointAwareClient<T extends SdkAutoCloseable> implements Resource {
+
+    private final Supplier<T> factory;
+    private T client;
+
+    CheckpointAwareClient(final Supplier<T> factory) {
+        this.factory = factory;
+        this.client = factory.get();
+        Core.getGlobalContext().register(this);
+    }
+
+    /**
+     * @return the client, built again if it was closed for a checkpoint and not restored yet
+     */
+    synchronized T get() {
+        if (client == null) {
+            client = factory.get();
+        }
+        return client;
+    }
+
+    @Override
+    public synchronized void beforeCheckpoint(final Context<? extends Resource> context) {
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        get();
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.rekognition.project;
+
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.RekognitionClientBuilder;
+
+import java.time.Duration;
+
+/**
+ * Builds the Rekognition client that every project handler shares, with the same timeout and retries as the
+ * collection handlers' client.
+ * <p>
+ * The client and its HTTP client are built when first used, and are closed before a CRaC checkpoint and rebuilt
+ * on restore (see {@link CheckpointAwareClient}).
+ */
+public class ClientBuilder {
+
+    private static final Integer CLIENT_TIMEOUT_SECONDS = 30;
+    private static final Integer CLIENT_NUM_RETRIES = 3;
+
+    // Throttled calls back off exponentially from 1s up to 20s, with a random half of each delay
+    private static final BackoffStrategy BACKOFF_THROTTLING_STRATEGY =
+            BackoffStrategy.exponentialDelayHalfJitter(Duration.ofSeconds(1), Duration.ofSeconds(20));
+    // Without the client-side token bucket, so a run of failed calls never stops the next one from being retried
+    private static final RetryStrategy RETRY_STRATEGY =
+            AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                    .maxAttempts(CLIENT_NUM_RETRIES + 1)
+                    .throttlingBackoffStrategy(BACKOFF_THROTTLING_STRATEGY)
+                    .circuitBreakerEnabled(false)
+                    .build();
+
+    /**
+     * @return the client the handlers call Rekognition with
+     */
+    static RekognitionClient rekognitionClient() {
+        return RekognitionClientHolder.CLIENT.get();
+    }
+
+    static SdkHttpClient httpClient() {
+        return HttpClientHolder.CLIENT.get();
+    }
+
+    public static RekognitionClient getClient() {
+        return rekognitionClientBuilder(ClientOverrideConfiguration.builder()).build();
+    }
+
+    /**
+     * @param overrideConfiguration configuration on top of the handlers' own, such as the interceptor of the
+     *                              {@link Primer} client
+     * @return a builder configured like the handlers' client, on the shared HTTP client
+     */
+    static RekognitionClientBuilder rekognitionClientBuilder(
+            final ClientOverrideConfiguration.Builder overrideConfiguration) {
+        return RekognitionClient.builder()
+                .overrideConfiguration(overrideConfiguration
+                        .apiCallTimeout(Duration.ofSeconds(CLIENT_TIMEOUT_SECONDS))
+                        .retryStrategy(RETRY_STRATEGY)
+                        .build())
+                .httpClient(httpClient());
+    }
+
+    // Created before the Rekognition client that uses it, so it is closed after that client and rebuilt before it
+    private static final class HttpClientHolder {
+        private static final CheckpointAwareClient<SdkHttpClient> CLIENT =
+                new CheckpointAwareClient<>(() -> ApacheHttpClient.builder().build());
+    }
+
+    private static final class RekognitionClientHolder {
+        private static final CheckpointAwareClient<RekognitionClient> CLIENT =
+                new CheckpointAwareClient<>(ClientBuilder::getClient);
+    }
+}
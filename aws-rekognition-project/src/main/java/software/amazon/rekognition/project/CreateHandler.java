@@ -6,15 +6,31 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
 
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
 import software.amazon.awssdk.services.rekognition.model.CreateProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
 import software.amazon.awssdk.services.rekognition.model.ResourceInUseException;
 
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Create Cloudformation handler for Rekognition::Project Resource.
+ * Flow -
+ *  1. Call CreateProject with the stack and resource tags, and keep the project ARN in the CallbackContext.
+ *  2. Return IN_PROGRESS and poll DescribeProjects with growing callback delays until the project is CREATED.
+ */
 public class CreateHandler extends BaseHandler<CallbackContext> {
 
+    static {
+        Primer.primeOnInit();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,15 +39,40 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+
+        // Reject input the schema does not allow before the client is used
+        if (context.getProjectArn() == null) {
+            ResourceModelValidator.validate(model);
+        }
+
+        final RekognitionClient rekognitionClient = ClientBuilder.rekognitionClient();
+
+        if (context.getProjectArn() == null) {
+            return createProject(proxy, rekognitionClient, request, model, context, logger);
+        }
+
+        return waitForCreation(proxy, rekognitionClient, model, context, logger);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> createProject(
+        final AmazonWebServicesClientProxy proxy,
+        final RekognitionClient rekognitionClient,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext context,
+        final Logger logger) {
 
         // Make sure the user is not trying to assign values to readOnly properties (e.g. ARN)
         if (hasReadOnlyProperties(model)) {
             throw new CfnInvalidRequestException("Attempting to set a ReadOnly Property.");
         }
 
-        RekognitionClient rekognitionClient = RekognitionClient.create();
+        // Stack and resource tags go out with CreateProject, so tagging needs no call of its own
+        final Map<String, String> tags = TagHelper.generateTagsForCreate(model, request);
         CreateProjectRequest createProjectRequest = CreateProjectRequest.builder()
                 .projectName(model.getProjectName())
+                .tags(tags.isEmpty() ? null : tags)
                 .build();
 
         CreateProjectResponse createProjectResponse = null;
@@ -48,25 +89,62 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             throw resourceAlreadyExistsException;
         }
 
-        logger.log(String.format("Project: %s successfully created.", model.getProjectName()));
+        logger.log(String.format("Project: %s creation started.", model.getProjectName()));
         ResourceModel responseResourceModel = ResourceModel.builder()
                 .projectName(model.getProjectName())
                 .arn(createProjectResponse.projectArn())
                 .build();
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModel(responseResourceModel)
-                .status(OperationStatus.SUCCESS)
-                .build();
+        context.setProjectArn(createProjectResponse.projectArn());
+        return Utils.progressWithBackoff(responseResourceModel, context);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> waitForCreation(
+        final AmazonWebServicesClientProxy proxy,
+        final RekognitionClient rekognitionClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final Logger logger) {
+
+        final Optional<ProjectDescription> project =
+                Utils.describeProject(proxy, rekognitionClient, model.getProjectName())
+                        .filter(p -> p.projectArn().equals(context.getProjectArn()));
+
+        if (project.isPresent() && project.get().status() == ProjectStatus.CREATED) {
+            logger.log(String.format("Project: %s successfully created.", model.getProjectName()));
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModel(Utils.translateFromProjectDescription(project.get()).toBuilder()
+                            .tags(model.getTags())
+                            .build())
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+
+        // The project may not be listed yet right after CreateProject, so only an unexpected status is terminal
+        if (project.isPresent() && project.get().status() != ProjectStatus.CREATING) {
+            logger.log(String.format("Project: %s entered unexpected status %s.",
+                    model.getProjectName(), project.get().statusAsString()));
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getProjectName());
+        }
+
+        if (context.getStabilizationRetries() >= Utils.MAX_STABILIZATION_RETRIES) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getProjectName());
+        }
+
+        context.setStabilizationRetries(context.getStabilizationRetries() + 1);
+        return Utils.progressWithBackoff(model.toBuilder().arn(context.getProjectArn()).build(), context);
     }
 
     /**
-     * This function checks that the model provided by CloudFormation does not contain any readOnly properties (i.e Arn).
+     * This function checks that the model provided by CloudFormation does not contain any readOnly properties
+     * (i.e Arn, Status, CreationTimestamp).
      *
      * @param model the ResourceModel for the given CreateHandler invocation
      * @return a boolean indicating if the ResourceModel contains readOnly properties
      */
     private boolean hasReadOnlyProperties(final ResourceModel model) {
-        return model.getArn() != null;
+        return model.getArn() != null
+                || model.getStatus() != null
+                || model.getCreationTimestamp() != null;
     }
 }
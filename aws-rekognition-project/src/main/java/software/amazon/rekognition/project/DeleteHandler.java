@@ -5,21 +5,32 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
-import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
-import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
 import software.amazon.awssdk.services.rekognition.model.DeleteProjectRequest;
 import software.amazon.awssdk.services.rekognition.model.DeleteProjectResponse;
 
-import java.util.List;
-import java.util.Arrays;
 import java.util.Optional;
 
+/**
+ * Delete Cloudformation handler for Rekognition::Project Resource.
+ * Project deletion is asynchronous on the service side, so the handler
+ *  1. Finds the project by name and keeps its ARN in the CallbackContext.
+ *  2. If CascadeDelete is set, stops and deletes the project's model versions and datasets,
+ *     one pass per callback, until none are left (see {@link CascadeDeleter}). Fails once the passes
+ *     exceed the stabilization retries.
+ *  3. Calls DeleteProject.
+ *  4. Returns IN_PROGRESS and polls DescribeProjects with growing callback delays until the project is gone.
+ */
 public class DeleteHandler extends BaseHandler<CallbackContext> {
 
+    static {
+        Primer.primeOnInit();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,46 +38,129 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
-        DescribeProjectsResponse describeProjectsResponse = null;
-        DescribeProjectsRequest describeProjectsRequest = null;
-        Optional<ProjectDescription> projectToDelete;
-        String nextToken = null;
-
         final ResourceModel model = request.getDesiredResourceState();
-        RekognitionClient rekognitionClient = RekognitionClient.create();
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RekognitionClient rekognitionClient = ClientBuilder.rekognitionClient();
+
+        Optional<ProjectDescription> projectToDelete = Optional.empty();
+
+        if (context.getProjectArn() == null) {
+            projectToDelete = Utils.describeProject(proxy, rekognitionClient, model.getProjectName());
+
+            if (projectToDelete.isPresent() == false)
+            {
+                final ResourceNotFoundException resourceNotFoundException =
+                        new ResourceNotFoundException(ResourceModel.TYPE_NAME, model.getProjectName());
+
+                logger.log(resourceNotFoundException.getMessage());
+                throw resourceNotFoundException;
+            }
+
+            context.setProjectArn(projectToDelete.get().projectArn());
+        }
+
+        if (Boolean.TRUE.equals(model.getCascadeDelete()) && !context.isCascadeDeleteComplete()) {
+            return deleteProjectResources(proxy, rekognitionClient, projectToDelete, model, context, logger);
+        }
+
+        if (!context.isDeleteProjectRequested()) {
+            return deleteProject(proxy, rekognitionClient, model, context, logger);
+        }
+
+        return waitForDeletion(proxy, rekognitionClient, model, context, logger);
+    }
+
+    /**
+     * Runs one cascade delete pass. The first callback reuses the project it looked up, later callbacks look it
+     * up again for its current datasets.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> deleteProjectResources(
+        final AmazonWebServicesClientProxy proxy,
+        final RekognitionClient rekognitionClient,
+        final Optional<ProjectDescription> projectToDelete,
+        final ResourceModel model,
+        final CallbackContext context,
+        final Logger logger) {
+
+        final Optional<ProjectDescription> project = (projectToDelete.isPresent()
+                ? projectToDelete
+                : Utils.describeProject(proxy, rekognitionClient, model.getProjectName()))
+                        .filter(p -> p.projectArn().equals(context.getProjectArn()));
 
-        do {
-            describeProjectsRequest = DescribeProjectsRequest.builder()
-                    .nextToken(nextToken)
+        if (project.isPresent() == false) {
+            logger.log(String.format("Project: %s was deleted during cascade delete.", model.getProjectName()));
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
                     .build();
+        }
 
-            describeProjectsResponse = proxy.injectCredentialsAndInvokeV2(
-                    describeProjectsRequest,
-                    rekognitionClient::describeProjects);
+        final CascadeDeleter.Result result =
+                new CascadeDeleter(proxy, rekognitionClient, logger).deleteProjectResources(project.get());
 
-            projectToDelete = Utils.findProjectByNameInResponse(describeProjectsResponse, model.getProjectName());
-            nextToken = describeProjectsResponse.nextToken();
-        } while (projectToDelete.isPresent() == false && nextToken != null);
+        context.setStoppedProjectVersions(context.getStoppedProjectVersions() + result.getStoppedProjectVersions());
+        context.setDeletedProjectVersions(context.getDeletedProjectVersions() + result.getDeletedProjectVersions());
+        context.setDeletedDatasets(context.getDeletedDatasets() + result.getDeletedDatasets());
 
-        if (projectToDelete.isPresent() == false)
-        {
-            final ResourceNotFoundException resourceNotFoundException =
-                    new ResourceNotFoundException(ResourceModel.TYPE_NAME, model.getProjectName());
+        if (result.isComplete()) {
+            logger.log(String.format("Project: %s has no model versions or datasets left.", model.getProjectName()));
+            context.setCascadeDeleteComplete(true);
+            context.setStabilizationRetries(0);
+            return deleteProject(proxy, rekognitionClient, model, context, logger);
+        }
 
-            logger.log(resourceNotFoundException.getMessage());
-            throw resourceNotFoundException;
+        if (context.getStabilizationRetries() >= Utils.MAX_STABILIZATION_RETRIES) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getProjectName());
         }
 
+        context.setStabilizationRetries(context.getStabilizationRetries() + 1);
+        return Utils.progressWithBackoff(model, context);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> deleteProject(
+        final AmazonWebServicesClientProxy proxy,
+        final RekognitionClient rekognitionClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final Logger logger) {
+
         DeleteProjectRequest deleteProjectRequest = DeleteProjectRequest.builder()
-                .projectArn(projectToDelete.get().projectArn())
+                .projectArn(context.getProjectArn())
                 .build();
 
         DeleteProjectResponse deleteProjectResponse = proxy.injectCredentialsAndInvokeV2(
                 deleteProjectRequest,
                 rekognitionClient::deleteProject);
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .status(OperationStatus.SUCCESS)
-            .build();
+        logger.log(String.format("Project: %s deletion started with status %s.",
+                model.getProjectName(), deleteProjectResponse.statusAsString()));
+
+        context.setDeleteProjectRequested(true);
+        return Utils.progressWithBackoff(model, context);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> waitForDeletion(
+        final AmazonWebServicesClientProxy proxy,
+        final RekognitionClient rekognitionClient,
+        final ResourceModel model,
+        final CallbackContext context,
+        final Logger logger) {
+
+        final Optional<ProjectDescription> project =
+                Utils.describeProject(proxy, rekognitionClient, model.getProjectName());
+
+        if (project.isPresent() == false || !project.get().projectArn().equals(context.getProjectArn())) {
+            logger.log(String.format("Project: %s successfully deleted.", model.getProjectName()));
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+
+        if (context.getStabilizationRetries() >= Utils.MAX_STABILIZATION_RETRIES) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getProjectName());
+        }
+
+        logger.log(String.format("Project: %s is still %s.", model.getProjectName(), project.get().statusAsString()));
+        context.setStabilizationRetries(context.getStabilizationRetries() + 1);
+        return Utils.progressWithBackoff(model, context);
     }
 }
@@ -0,0 +1,209 @@
+package software.amazon.rekognition.project;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Custom runtime bootstrap for the native image of the handler, for the {@code provided.al2} Lambda runtime.
+ * <p>
+ * It builds the HandlerWrapper once, then loops on the Lambda Runtime API: fetch the next event, pass it to
+ * {@code HandlerWrapper.handleRequest} and post the response, or the error if the wrapper throws. The same main
+ * class runs on a JVM, which is how the native binary is compared with the JVM build.
+ * <p>
+ * With {@code -Drekognition.checkpointAfterInit=true} on a CRaC JVM started with {@code -XX:CRaCCheckpointTo}, it
+ * takes a checkpoint once the wrapper is built, before polling for the first event. A JVM restored from it
+ * continues from there.
+ * <p>
+ * The collection module has the same class for its own generated HandlerWrapper. Each resource type module builds and
+ * ships on its own, so keep the two copies in step.
+ */
+public final class LambdaRuntime {
+
+    private static final String RUNTIME_API_VERSION = "2018-06-01";
+    private static final String CHECKPOINT_PROPERTY = "rekognition.checkpointAfterInit";
+    private static final int MEMORY_LIMIT_MB =
+        Integer.parseInt(System.getenv().getOrDefault("AWS_LAMBDA_FUNCTION_MEMORY_SIZE", "256"));
+
+    private LambdaRuntime() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final String runtimeApi = "http://" + System.getenv("AWS_LAMBDA_RUNTIME_API") + "/" + RUNTIME_API_VERSION;
+        final HandlerWrapper wrapper;
+        try {
+            wrapper = new HandlerWrapper();
+        } catch (final RuntimeException | Error e) {
+            post(runtimeApi + "/runtime/init/error", error(e));
+            throw e;
+        }
+        if (Boolean.getBoolean(CHECKPOINT_PROPERTY)) {
+            checkpoint();
+        }
+
+        while (true) {
+            final HttpURLConnection next = open(runtimeApi + "/runtime/invocation/next");
+            final String requestId = next.getHeaderField("Lambda-Runtime-Aws-Request-Id");
+            final long deadline = Long.parseLong(next.getHeaderField("Lambda-Runtime-Deadline-Ms"));
+            final byte[] event = readAll(next.getInputStream());
+
+            final ByteArrayOutputStream response = new ByteArrayOutputStream();
+            try {
+                wrapper.handleRequest(new ByteArrayInputStream(event), response,
+                    new InvocationContext(requestId, deadline));
+            } catch (final RuntimeException | IOException e) {
+                post(runtimeApi + "/runtime/invocation/" + requestId + "/error", error(e));
+                continue;
+            }
+            post(runtimeApi + "/runtime/invocation/" + requestId + "/response", response.toByteArray());
+        }
+    }
+
+    private static void checkpoint() {
+        try {
+            Core.checkpointRestore();
+        } catch (final CheckpointException | RestoreException | UnsupportedOperationException e) {
+            // Serve the events without a snapshot rather than fail the function
+            log(String.format("Skipped the checkpoint: %s", e));
+        }
+    }
+
+    /**
+     * Writes one line to stdout, which the Lambda service sends to CloudWatch. Also used outside an invocation,
+     * where the handlers have no logger yet.
+     */
+    static void log(final String message) {
+        System.out.println(message);
+    }
+
+    private static HttpURLConnection open(final String url) throws IOException {
+        return (HttpURLConnection) URI.create(url).toURL().openConnection();
+    }
+
+    private static void post(final String url, final byte[] body) throws IOException {
+        final HttpURLConnection connection = open(url);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        readAll(connection.getInputStream());
+    }
+
+    private static byte[] error(final Throwable e) {
+        final StringWriter stackTrace = new StringWriter();
+        e.printStackTrace(new PrintWriter(stackTrace));
+        System.err.println(stackTrace);
+        return String.format("{\"errorMessage\":\"%s\",\"errorType\":\"%s\"}",
+            escape(String.valueOf(e.getMessage())), e.getClass().getName()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        try (InputStream input = in) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * The Lambda context of one invocation. Its logger writes through {@link LambdaRuntime#log}.
+     */
+    private static final class InvocationContext implements Context, LambdaLogger {
+        private final String requestId;
+        private final long deadline;
+
+        private InvocationContext(final String requestId, final long deadline) {
+            this.requestId = requestId;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public String getAwsRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+        }
+
+        @Override
+        public String getFunctionName() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) Math.max(0, deadline - System.currentTimeMillis());
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return MEMORY_LIMIT_MB;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return this;
+        }
+
+        @Override
+        public void log(final String message) {
+            LambdaRuntime.log(message);
+        }
+
+        @Override
+        public void log(final byte[] message) {
+            LambdaRuntime.log(new String(message, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -16,6 +16,10 @@ import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
 
+    static {
+        Primer.primeOnInit();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -28,7 +32,7 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         DescribeProjectsRequest describeProjectsRequest = null;
         String nextToken = null;
 
-        RekognitionClient rekognitionClient = RekognitionClient.create();
+        final RekognitionClient rekognitionClient = ClientBuilder.rekognitionClient();
 
         do {
             describeProjectsRequest = DescribeProjectsRequest.builder()
@@ -40,10 +44,7 @@ public class ListHandler extends BaseHandler<CallbackContext> {
                     rekognitionClient::describeProjects);
 
             for (ProjectDescription p : describeProjectsResponse.projectDescriptions()) {
-                models.add(ResourceModel.builder()
-                        .arn(p.projectArn())
-                        .projectName(Utils.getProjectNameFromArn(p.projectArn()))
-                        .build());
+                models.add(Utils.translateFromProjectDescription(p));
             }
             nextToken = describeProjectsResponse.nextToken();
         } while (nextToken != null);
@@ -11,11 +11,17 @@ import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
 
 import java.util.Optional;
 
 public class ReadHandler extends BaseHandler<CallbackContext> {
 
+    static {
+        Primer.primeOnInit();
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -29,7 +35,7 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
         String nextToken = null;
 
         final ResourceModel model = request.getDesiredResourceState();
-        RekognitionClient rekognitionClient = RekognitionClient.create();
+        final RekognitionClient rekognitionClient = ClientBuilder.rekognitionClient();
 
         do {
             describeProjectsRequest = DescribeProjectsRequest.builder()
@@ -53,9 +59,16 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             throw resourceNotFoundException;
         }
 
-        ResourceModel responseResourceModel = ResourceModel.builder()
-                .projectName(Utils.getProjectNameFromArn(projectToRead.get().projectArn()))
-                .arn(projectToRead.get().projectArn())
+        final ListTagsForResourceRequest listTagsForResourceRequest = ListTagsForResourceRequest.builder()
+                .resourceArn(projectToRead.get().projectArn())
+                .build();
+        final ListTagsForResourceResponse listTagsForResourceResponse = proxy.injectCredentialsAndInvokeV2(
+                listTagsForResourceRequest,
+                rekognitionClient::listTagsForResource);
+
+        ResourceModel responseResourceModel = Utils.translateFromProjectDescription(projectToRead.get()).toBuilder()
+                .tags(TagHelper.convertToSet(
+                        TagHelper.getResourceDefinedTags(listTagsForResourceResponse.tags(), request)))
                 .build();
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
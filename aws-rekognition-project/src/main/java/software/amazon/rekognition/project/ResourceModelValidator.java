@@ -0,0 +1,101 @@
+package software.amazon.rekognition.project;
+
+import org.json.JSONObject;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.regex.Pattern;
+
+/**
+ * Checks a ResourceModel against the patterns, length limits and item counts of aws-rekognition-project.json,
+ * so invalid input fails with CfnInvalidRequestException before a client is created or any API is called.
+ * The constraints are read from the schema and compiled once per container.
+ */
+final class ResourceModelValidator {
+
+    private static final JSONObject SCHEMA = new Configuration().resourceSchemaJsonObject();
+    private static final JSONObject DEFINITIONS = SCHEMA.getJSONObject("definitions");
+
+    private static final StringConstraint PROJECT_NAME =
+            StringConstraint.from("ProjectName", DEFINITIONS.getJSONObject("ProjectName"));
+    private static final StringConstraint TAG_KEY =
+            StringConstraint.from("Tag Key", tagProperty("Key"));
+    private static final StringConstraint TAG_VALUE =
+            StringConstraint.from("Tag Value", tagProperty("Value"));
+    private static final int MAX_TAGS =
+            SCHEMA.getJSONObject("properties").getJSONObject("Tags").optInt("maxItems", Integer.MAX_VALUE);
+
+    private ResourceModelValidator() {
+    }
+
+    /**
+     * Validates the user-supplied properties of a model.
+     *
+     * @param model the desired resource state
+     * @throws CfnInvalidRequestException if a property violates the resource schema
+     */
+    static void validate(final ResourceModel model) {
+        if (model == null || model.getProjectName() == null) {
+            throw new CfnInvalidRequestException("ProjectName is required");
+        }
+        PROJECT_NAME.check(model.getProjectName());
+
+        if (model.getTags() != null) {
+            if (model.getTags().size() > MAX_TAGS) {
+                throw new CfnInvalidRequestException(
+                        String.format("Tags has %d items, at most %d are allowed", model.getTags().size(), MAX_TAGS));
+            }
+            for (Tag tag : model.getTags()) {
+                TAG_KEY.check(tag.getKey());
+                TAG_VALUE.check(tag.getValue());
+            }
+        }
+    }
+
+    private static JSONObject tagProperty(final String property) {
+        return DEFINITIONS.getJSONObject("Tag").getJSONObject("properties").getJSONObject(property);
+    }
+
+    /**
+     * The minLength, maxLength and pattern of a string property. The pattern has to match the whole value, as the
+     * service checks it, even where the schema leaves it unanchored. Lengths count code points.
+     */
+    static final class StringConstraint {
+        private final String name;
+        private final int minLength;
+        private final int maxLength;
+        private final Pattern pattern;
+
+        private StringConstraint(final String name, final int minLength, final int maxLength, final Pattern pattern) {
+            this.name = name;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.pattern = pattern;
+        }
+
+        static StringConstraint from(final String name, final JSONObject schema) {
+            return new StringConstraint(
+                    name,
+                    schema.optInt("minLength", 0),
+                    schema.optInt("maxLength", Integer.MAX_VALUE),
+                    schema.has("pattern") ? Pattern.compile(schema.getString("pattern")) : null);
+        }
+
+        /**
+         * Checks a value, a null value is left to the required checks.
+         */
+        void check(final String value) {
+            if (value == null) {
+                return;
+            }
+            final int length = value.codePointCount(0, value.length());
+            if (length < minLength || length > maxLength) {
+                throw new CfnInvalidRequestException(String.format(
+                        "%s must be %d to %d characters long: %s", name, minLength, maxLength, value));
+            }
+            if (pattern != null && !pattern.matcher(value).matches()) {
+                throw new CfnInvalidRequestException(String.format(
+                        "%s must match %s: %s", name, pattern.pattern(), value));
+            }
+        }
+    }
+}
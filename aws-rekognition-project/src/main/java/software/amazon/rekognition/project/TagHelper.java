@@ -0,0 +1,155 @@
+package software.amazon.rekognition.project;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TagHelper {
+
+    private static final String SYSTEM_TAG_PREFIX = "aws:";
+
+    /**
+     * Converts a collection of Tag objects to a tag-name -> tag-value map. Tags without a value are left out.
+     *
+     * @param tags the tags to convert, may be null
+     * @return the tag map
+     */
+    static Map<String, String> convertToMap(final Collection<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return tags.stream()
+                .filter(tag -> tag.getValue() != null)
+                .collect(Collectors.toMap(
+                        Tag::getKey,
+                        Tag::getValue,
+                        (oldValue, newValue) -> newValue));
+    }
+
+    /**
+     * Converts a tag map to a set of Tag objects.
+     *
+     * @param tagMap the tags to convert, may be null
+     * @return the tags, empty if there are none, as in the collection handlers
+     */
+    static Set<Tag> convertToSet(final Map<String, String> tagMap) {
+        if (tagMap == null || tagMap.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return tagMap.entrySet().stream()
+                .filter(tag -> tag.getValue() != null)
+                .map(tag -> Tag.builder()
+                        .key(tag.getKey())
+                        .value(tag.getValue())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the tags to send with CreateProject: system tags, stack tags and resource tags, with resource tags
+     * winning over stack tags with the same key. The project is created fully tagged, so no TagResource call
+     * follows.
+     *
+     * @param model the desired resource model
+     * @param request the handler request carrying the stack and system tags
+     * @return the tags for the CreateProject request
+     */
+    static Map<String, String> generateTagsForCreate(final ResourceModel model,
+                                                     final ResourceHandlerRequest<ResourceModel> request) {
+        final Map<String, String> tags = new HashMap<>();
+        if (request.getSystemTags() != null) {
+            tags.putAll(request.getSystemTags());
+        }
+        if (request.getDesiredResourceTags() != null) {
+            tags.putAll(request.getDesiredResourceTags());
+        }
+        tags.putAll(convertToMap(model.getTags()));
+        return tags;
+    }
+
+    /**
+     * Returns the tags attached to the project less the ones CreateProject attached for CloudFormation rather than
+     * for the template: system tags (aws: prefix) and the stack tags, which are the request's desired resource tags.
+     * A stack tag key that the project's own Tags also declare belongs to the project and is kept, whatever its
+     * value, so Read returns only the declared Tags.
+     *
+     * @param attachedTags the tags from ListTagsForResource, may be null
+     * @param request the handler request carrying the stack tags
+     * @return the tags declared on the resource
+     */
+    static Map<String, String> getResourceDefinedTags(final Map<String, String> attachedTags,
+                                                      final ResourceHandlerRequest<ResourceModel> request) {
+        if (attachedTags == null || attachedTags.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> stackTags = request.getDesiredResourceTags() == null
+                ? Collections.emptyMap()
+                : request.getDesiredResourceTags();
+        final Set<String> resourceTagKeys = request.getDesiredResourceState() == null
+                ? Collections.emptySet()
+                : convertToMap(request.getDesiredResourceState().getTags()).keySet();
+        return attachedTags.entrySet().stream()
+                .filter(tag -> !tag.getKey().startsWith(SYSTEM_TAG_PREFIX))
+                .filter(tag -> !stackTags.containsKey(tag.getKey()) || resourceTagKeys.contains(tag.getKey()))
+                .filter(tag -> tag.getValue() != null)
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue));
+    }
+
+    /**
+     * Returns the stack and resource tags attached before the update. System tags are left out, they cannot be
+     * changed after creation.
+     */
+    static Map<String, String> getPreviouslyAttachedTags(final ResourceHandlerRequest<ResourceModel> request) {
+        final Map<String, String> tags = new HashMap<>();
+        if (request.getPreviousResourceTags() != null) {
+            tags.putAll(request.getPreviousResourceTags());
+        }
+        if (request.getPreviousResourceState() != null) {
+            tags.putAll(convertToMap(request.getPreviousResourceState().getTags()));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the stack and resource tags that should be attached after the update.
+     */
+    static Map<String, String> getNewDesiredTags(final ResourceModel model,
+                                                 final ResourceHandlerRequest<ResourceModel> request) {
+        final Map<String, String> tags = new HashMap<>();
+        if (request.getDesiredResourceTags() != null) {
+            tags.putAll(request.getDesiredResourceTags());
+        }
+        tags.putAll(convertToMap(model.getTags()));
+        return tags;
+    }
+
+    /**
+     * Returns the tags that are new or have a new value.
+     */
+    static Map<String, String> generateTagsToAdd(final Map<String, String> previousTags,
+                                                 final Map<String, String> desiredTags) {
+        return desiredTags.entrySet().stream()
+                .filter(e -> !Objects.equals(previousTags.get(e.getKey()), e.getValue()))
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue));
+    }
+
+    /**
+     * Returns the keys of the tags that are no longer desired.
+     */
+    static Set<String> generateTagsToRemove(final Map<String, String> previousTags,
+                                            final Map<String, String> desiredTags) {
+        return previousTags.keySet().stream()
+                .filter(key -> !desiredTags.containsKey(key))
+                .collect(Collectors.toSet());
+    }
+}
@@ -2,12 +2,38 @@ package software.amazon.rekognition.project;
 
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
+
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceRequest;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+/**
+ * Update Cloudformation handler for Rekognition::Project Resource.
+ * Flow -
+ *  0. If nothing but write-only properties changed, return the previous model without a full read. The ARN is
+ *     taken from the previous or desired model, and only when both lack it is the project looked up with a
+ *     single name-filtered DescribeProjects call.
+ *  1. If the stack or resource tags changed, take the project ARN from the models (or look it up) and call UntagResource and TagResource
+ *     with only the removed and the added or changed tags. Each call is skipped when it has nothing to do.
+ *  2. Call ReadHandler to return the updated project.
+ */
 public class UpdateHandler extends BaseHandler<CallbackContext> {
 
+    static {
+        Primer.primeOnInit();
+    }
+
+    private final ReadHandler readHandler = new ReadHandler();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -15,7 +41,100 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
-        // The AWS::Rekognition::Project resource only has `createOnly` attributes, so there are currently no supported updates
-        return new ReadHandler().handleRequest(proxy, request, callbackContext, logger);
+        final ResourceModel model = request.getDesiredResourceState();
+        ResourceModelValidator.validate(model);
+
+        final Map<String, String> previousTags = TagHelper.getPreviouslyAttachedTags(request);
+        final Map<String, String> desiredTags = TagHelper.getNewDesiredTags(model, request);
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        if (previousModel != null
+                && Objects.equals(previousModel.getProjectName(), model.getProjectName())
+                && previousTags.equals(desiredTags)) {
+            return noOpUpdate(proxy, previousModel, model, logger);
+        }
+
+        // Tags are the only attribute of AWS::Rekognition::Project that can be updated in place
+        if (!previousTags.equals(desiredTags)) {
+            updateTags(proxy, previousModel, model, previousTags, desiredTags, logger);
+        }
+
+        return readHandler.handleRequest(proxy, request, callbackContext, logger);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> noOpUpdate(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel previousModel,
+        final ResourceModel model,
+        final Logger logger) {
+
+        final ResourceModel.ResourceModelBuilder responseResourceModel;
+        if (previousModel.getArn() != null || model.getArn() != null) {
+            responseResourceModel = previousModel.toBuilder()
+                    .arn(previousModel.getArn() != null ? previousModel.getArn() : model.getArn());
+        } else {
+            final ProjectDescription project =
+                    Utils.describeProject(proxy, ClientBuilder.rekognitionClient(), model.getProjectName())
+                            .orElseThrow(() -> notFound(model, logger));
+            responseResourceModel = Utils.translateFromProjectDescription(project).toBuilder();
+        }
+
+        logger.log(String.format("Project: %s has no changes to update.", model.getProjectName()));
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModel(responseResourceModel
+                        .tags(model.getTags())
+                        .cascadeDelete(null)
+                        .build())
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    private void updateTags(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel previousModel,
+        final ResourceModel model,
+        final Map<String, String> previousTags,
+        final Map<String, String> desiredTags,
+        final Logger logger) {
+
+        final RekognitionClient rekognitionClient = ClientBuilder.rekognitionClient();
+
+        final String projectArn;
+        if (model.getArn() != null) {
+            projectArn = model.getArn();
+        } else if (previousModel != null && previousModel.getArn() != null) {
+            projectArn = previousModel.getArn();
+        } else {
+            projectArn = Utils.describeProject(proxy, rekognitionClient, model.getProjectName())
+                    .map(ProjectDescription::projectArn)
+                    .orElseThrow(() -> notFound(model, logger));
+        }
+
+        final Set<String> tagsToRemove = TagHelper.generateTagsToRemove(previousTags, desiredTags);
+        if (!tagsToRemove.isEmpty()) {
+            final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
+                    .resourceArn(projectArn)
+                    .tagKeys(tagsToRemove)
+                    .build();
+            proxy.injectCredentialsAndInvokeV2(untagResourceRequest, rekognitionClient::untagResource);
+            logger.log(String.format("Project: %s removed tags %s.", model.getProjectName(), tagsToRemove));
+        }
+
+        final Map<String, String> tagsToAdd = TagHelper.generateTagsToAdd(previousTags, desiredTags);
+        if (!tagsToAdd.isEmpty()) {
+            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
+                    .resourceArn(projectArn)
+                    .tags(tagsToAdd)
+                    .build();
+            proxy.injectCredentialsAndInvokeV2(tagResourceRequest, rekognitionClient::tagResource);
+            logger.log(String.format("Project: %s added tags %s.", model.getProjectName(), tagsToAdd.keySet()));
+        }
+    }
+
+    private static ResourceNotFoundException notFound(final ResourceModel model, final Logger logger) {
+        final ResourceNotFoundException resourceNotFoundException =
+                new ResourceNotFoundException(ResourceModel.TYPE_NAME, model.getProjectName());
+        logger.log(resourceNotFoundException.getMessage());
+        return resourceNotFoundException;
     }
 }
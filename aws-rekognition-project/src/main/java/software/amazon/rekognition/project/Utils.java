@@ -1,22 +1,138 @@
 package software.amazon.rekognition.project;
 
-import software.amazon.awssdk.arns.Arn;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
 
 import java.util.Optional;
 
 public class Utils {
 
+    // arn:<partition>:rekognition:<region>:<account>:project/<name>/<timestamp>
+    private static final int ARN_RESOURCE_COLON_COUNT = 5;
+
+    private static final int BASE_CALLBACK_DELAY_SECONDS = 2;
+    private static final int MAX_CALLBACK_DELAY_SECONDS = 30;
+    static final int MAX_STABILIZATION_RETRIES = 40;
+
     static String getProjectNameFromArn(final String projectArn) {
-        return Arn.fromString(projectArn).resourceAsString().split("/", 3)[1];
+        final int start = getProjectNameStart(projectArn);
+        return projectArn.substring(start, getProjectNameEnd(projectArn, start));
+    }
+
+    /**
+     * Checks whether the project name embedded in the given ARN equals the given project name,
+     * comparing the region of the ARN in place instead of extracting the name first.
+     *
+     * @param projectArn the project ARN
+     * @param projectName the project name to match
+     * @return true if the ARN belongs to a project with the given name
+     */
+    static boolean isProjectArnForName(final String projectArn, final String projectName) {
+        if (projectName == null) {
+            return false;
+        }
+        final int start = getProjectNameStart(projectArn);
+        final int end = getProjectNameEnd(projectArn, start);
+        return end - start == projectName.length()
+                && projectArn.regionMatches(start, projectName, 0, projectName.length());
+    }
+
+    static ResourceModel translateFromProjectDescription(final ProjectDescription projectDescription) {
+        return ResourceModel.builder()
+                .arn(projectDescription.projectArn())
+                .projectName(getProjectNameFromArn(projectDescription.projectArn()))
+                .status(projectDescription.statusAsString())
+                .creationTimestamp(projectDescription.creationTimestamp() == null
+                        ? null
+                        : projectDescription.creationTimestamp().toString())
+                .build();
     }
 
     static Optional<ProjectDescription> findProjectByNameInResponse(DescribeProjectsResponse describeProjectsResponse,
                                                                     final String projectName)
     {
-        return describeProjectsResponse.projectDescriptions().stream()
-                .filter(projectDescription -> Utils.getProjectNameFromArn(projectDescription.projectArn()).equals(projectName))
-                .findFirst();
+        for (ProjectDescription projectDescription : describeProjectsResponse.projectDescriptions()) {
+            if (isProjectArnForName(projectDescription.projectArn(), projectName)) {
+                return Optional.of(projectDescription);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Looks up a single project with one DescribeProjects call filtered by name.
+     *
+     * @param proxy the proxy used to inject credentials
+     * @param rekognitionClient the Rekognition client
+     * @param projectName the project name to look for
+     * @return the matching ProjectDescription, or empty if no project has this name
+     */
+    static Optional<ProjectDescription> describeProject(final AmazonWebServicesClientProxy proxy,
+                                                        final RekognitionClient rekognitionClient,
+                                                        final String projectName)
+    {
+        final DescribeProjectsRequest describeProjectsRequest = DescribeProjectsRequest.builder()
+                .projectNames(projectName)
+                .build();
+
+        final DescribeProjectsResponse describeProjectsResponse = proxy.injectCredentialsAndInvokeV2(
+                describeProjectsRequest,
+                rekognitionClient::describeProjects);
+
+        return findProjectByNameInResponse(describeProjectsResponse, projectName);
+    }
+
+    /**
+     * Returns an IN_PROGRESS event for stabilization polling. The callback delay doubles with every
+     * completed poll, starting at BASE_CALLBACK_DELAY_SECONDS and capped at MAX_CALLBACK_DELAY_SECONDS.
+     *
+     * @param model the resource model to return
+     * @param callbackContext the callback context holding the number of completed polls
+     * @return IN_PROGRESS event with the callback delay for the next poll
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> progressWithBackoff(final ResourceModel model,
+                                                                            final CallbackContext callbackContext) {
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModel(model)
+                .callbackContext(callbackContext)
+                .callbackDelaySeconds(getCallbackDelaySeconds(callbackContext.getStabilizationRetries()))
+                .status(OperationStatus.IN_PROGRESS)
+                .build();
+    }
+
+    static int getCallbackDelaySeconds(final int stabilizationRetries) {
+        final int shift = Math.min(stabilizationRetries, 16);
+        return Math.min(BASE_CALLBACK_DELAY_SECONDS << shift, MAX_CALLBACK_DELAY_SECONDS);
+    }
+
+    /**
+     * Returns the index of the first character of the project name, which follows the first '/'
+     * of the resource part of the ARN (everything after the fifth ':').
+     */
+    private static int getProjectNameStart(final String projectArn) {
+        int index = -1;
+        for (int i = 0; i < ARN_RESOURCE_COLON_COUNT; i++) {
+            index = projectArn.indexOf(':', index + 1);
+            if (index < 0) {
+                throw new IllegalArgumentException(String.format("Malformed project ARN: %s", projectArn));
+            }
+        }
+
+        final int slash = projectArn.indexOf('/', index + 1);
+        if (slash < 0) {
+            throw new IllegalArgumentException(String.format("Malformed project ARN: %s", projectArn));
+        }
+        return slash + 1;
+    }
+
+    private static int getProjectNameEnd(final String projectArn, final int start) {
+        final int slash = projectArn.indexOf('/', start);
+        return slash < 0 ? projectArn.length() : slash;
     }
 }
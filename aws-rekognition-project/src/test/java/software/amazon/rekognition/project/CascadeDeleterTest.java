@@ -0,0 +1,235 @@
+package software.amazon.rekognition.project;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.awssdk.services.rekognition.RekognitionClient;
+import software.amazon.awssdk.services.rekognition.model.DatasetMetadata;
+import software.amazon.awssdk.services.rekognition.model.DatasetStatus;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteDatasetResponse;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectVersionDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectVersionStatus;
+import software.amazon.awssdk.services.rekognition.model.ResourceInUseException;
+import software.amazon.awssdk.services.rekognition.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.StopProjectVersionResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+
+@ExtendWith(MockitoExtension.class)
+public class CascadeDeleterTest {
+
+    private static final String PROJECT_ARN = "arn:aws:rekognition:us-east-1:000000000000:project/projectName/1111111111111";
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private RekognitionClient rekognitionClient;
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        proxy = mock(AmazonWebServicesClientProxy.class);
+        rekognitionClient = mock(RekognitionClient.class);
+        logger = mock(Logger.class);
+    }
+
+    @Test
+    public void test_DeleteProjectResources_ShouldBeComplete_WhenProjectIsEmpty() {
+        // Arrange
+        stubProjectVersions(DescribeProjectVersionsResponse.builder()
+            .projectVersionDescriptions(new ArrayList<>())
+            .build());
+
+        final ProjectDescription project = ProjectDescription.builder()
+            .projectArn(PROJECT_ARN)
+            .datasets(new ArrayList<>())
+            .build();
+
+        // Act
+        final CascadeDeleter.Result result = new CascadeDeleter(proxy, rekognitionClient, logger)
+            .deleteProjectResources(project);
+
+        // Assert
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getDeletedProjectVersions()).isEqualTo(0);
+        assertThat(result.getDeletedDatasets()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_DeleteProjectResources_ShouldStopRunningAndDeleteFinishedResources() {
+        // Arrange
+        stubProjectVersions(DescribeProjectVersionsResponse.builder()
+            .projectVersionDescriptions(
+                projectVersion("running", ProjectVersionStatus.RUNNING),
+                projectVersion("stopping", ProjectVersionStatus.STOPPING),
+                projectVersion("trained", ProjectVersionStatus.TRAINING_COMPLETED),
+                projectVersion("failed", ProjectVersionStatus.TRAINING_FAILED))
+            .build());
+
+        final ProjectDescription project = ProjectDescription.builder()
+            .projectArn(PROJECT_ARN)
+            .datasets(
+                dataset("train", DatasetStatus.CREATE_COMPLETE),
+                dataset("test", DatasetStatus.UPDATE_IN_PROGRESS))
+            .build();
+
+        // Act
+        final CascadeDeleter.Result result = new CascadeDeleter(proxy, rekognitionClient, logger, 2, 1000)
+            .deleteProjectResources(project);
+
+        // Assert
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getStoppedProjectVersions()).isEqualTo(1);
+        assertThat(result.getDeletedProjectVersions()).isEqualTo(2);
+        assertThat(result.getDeletedDatasets()).isEqualTo(1);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+            ArgumentMatchers.any(StopProjectVersionRequest.class), ArgumentMatchers.any());
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(
+            ArgumentMatchers.any(DeleteProjectVersionRequest.class), ArgumentMatchers.any());
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+            ArgumentMatchers.any(DeleteDatasetRequest.class), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void test_DeleteProjectResources_ShouldIgnoreResourcesThatAreGoneOrInUse() {
+        // Arrange
+        doAnswer(invocation -> {
+            final Object awsRequest = invocation.getArgument(0);
+            if (awsRequest instanceof DescribeProjectVersionsRequest) {
+                return DescribeProjectVersionsResponse.builder()
+                    .projectVersionDescriptions(projectVersion("trained", ProjectVersionStatus.TRAINING_COMPLETED))
+                    .build();
+            }
+            if (awsRequest instanceof DeleteProjectVersionRequest) {
+                throw ResourceNotFoundException.builder().message("not found").build();
+            }
+            throw ResourceInUseException.builder().message("in use").build();
+        })
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        final ProjectDescription project = ProjectDescription.builder()
+            .projectArn(PROJECT_ARN)
+            .datasets(dataset("train", DatasetStatus.CREATE_COMPLETE))
+            .build();
+
+        // Act
+        final CascadeDeleter.Result result = new CascadeDeleter(proxy, rekognitionClient, logger)
+            .deleteProjectResources(project);
+
+        // Assert
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getDeletedProjectVersions()).isEqualTo(1);
+        assertThat(result.getDeletedDatasets()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_DeleteProjectResources_ShouldKeepDatasets_WhenVersionIsTraining() {
+        // Arrange
+        stubProjectVersions(DescribeProjectVersionsResponse.builder()
+            .projectVersionDescriptions(
+                projectVersion("training", ProjectVersionStatus.TRAINING_IN_PROGRESS),
+                projectVersion("trained", ProjectVersionStatus.TRAINING_COMPLETED))
+            .build());
+
+        final ProjectDescription project = ProjectDescription.builder()
+            .projectArn(PROJECT_ARN)
+            .datasets(dataset("train", DatasetStatus.CREATE_COMPLETE))
+            .build();
+
+        // Act
+        final CascadeDeleter.Result result = new CascadeDeleter(proxy, rekognitionClient, logger)
+            .deleteProjectResources(project);
+
+        // Assert
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getDeletedProjectVersions()).isEqualTo(1);
+        assertThat(result.getDeletedDatasets()).isEqualTo(0);
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+            ArgumentMatchers.any(DeleteDatasetRequest.class), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void test_DeleteProjectResources_ShouldFail_WhenRequestFails() {
+        // Arrange
+        doAnswer(invocation -> {
+            final Object awsRequest = invocation.getArgument(0);
+            if (awsRequest instanceof DescribeProjectVersionsRequest) {
+                return DescribeProjectVersionsResponse.builder()
+                    .projectVersionDescriptions(projectVersion("running", ProjectVersionStatus.RUNNING))
+                    .build();
+            }
+            throw new IllegalStateException("access denied");
+        })
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        final ProjectDescription project = ProjectDescription.builder()
+            .projectArn(PROJECT_ARN)
+            .datasets(new ArrayList<>())
+            .build();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new CascadeDeleter(proxy, rekognitionClient, logger)
+            .deleteProjectResources(project));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(
+            ArgumentMatchers.any(DeleteProjectVersionRequest.class), ArgumentMatchers.any());
+    }
+
+    private void stubProjectVersions(final DescribeProjectVersionsResponse describeProjectVersionsResponse) {
+        doAnswer(invocation -> {
+            final Object awsRequest = invocation.getArgument(0);
+            if (awsRequest instanceof DescribeProjectVersionsRequest) {
+                return describeProjectVersionsResponse;
+            }
+            if (awsRequest instanceof StopProjectVersionRequest) {
+                return StopProjectVersionResponse.builder().build();
+            }
+            if (awsRequest instanceof DeleteProjectVersionRequest) {
+                return DeleteProjectVersionResponse.builder().build();
+            }
+            return DeleteDatasetResponse.builder().build();
+        })
+            .when(proxy)
+            .injectCredentialsAndInvokeV2(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    private static ProjectVersionDescription projectVersion(final String versionName,
+                                                            final ProjectVersionStatus status) {
+        return ProjectVersionDescription.builder()
+            .projectVersionArn(PROJECT_ARN.replace("/1111111111111", "/version/" + versionName + "/1111111111111"))
+            .status(status)
+            .build();
+    }
+
+    private static DatasetMetadata dataset(final String datasetType, final DatasetStatus status) {
+        return DatasetMetadata.builder()
+            .datasetArn(PROJECT_ARN.replace("/1111111111111", "/dataset/" + datasetType + "/1111111111111"))
+            .status(status)
+            .build();
+    }
+}
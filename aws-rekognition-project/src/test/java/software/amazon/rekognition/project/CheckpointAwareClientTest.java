@@ -0,0 +1,104 @@
+package software.amazon.rekognition.project;
+
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CheckpointAwareClientTest {
+
+    @Test
+    public void test_CheckpointAwareClient_ShouldRebuildClient_WhenRestored() {
+        // Arrange
+        final List<SdkHttpClient> built = new ArrayList<>();
+        final CheckpointAwareClient<SdkHttpClient> holder = new CheckpointAwareClient<>(() -> {
+            final SdkHttpClient client = mock(SdkHttpClient.class);
+            built.add(client);
+            return client;
+        });
+        final SdkHttpClient first = holder.get();
+
+        // Act
+        holder.beforeCheckpoint(null);
+        holder.afterRestore(null);
+
+        // Assert
+        verify(first).close();
+        assertThat(built).hasSize(2);
+        assertThat(holder.get()).isSameAs(built.get(1));
+        assertThat(holder.get()).isNotSameAs(first);
+    }
+
+    @Test
+    public void test_CheckpointAwareClient_ShouldCloseClientOnce_WhenCheckpointed() {
+        // Arrange
+        final SdkHttpClient client = mock(SdkHttpClient.class);
+        final CheckpointAwareClient<SdkHttpClient> holder = new CheckpointAwareClient<>(() -> client);
+
+        // Act
+        holder.beforeCheckpoint(null);
+        holder.beforeCheckpoint(null);
+
+        // Assert
+        verify(client, times(1)).close();
+    }
+
+    @Test
+    public void test_CheckpointAwareClient_ShouldRebuildClient_WhenUsedAfterCheckpoint() {
+        // Arrange
+        final CheckpointAwareClient<SdkHttpClient> holder =
+            new CheckpointAwareClient<>(() -> mock(SdkHttpClient.class));
+        final SdkHttpClient first = holder.get();
+
+        // Act
+        holder.beforeCheckpoint(null);
+
+        // Assert
+        assertThat(holder.get()).isNotNull().isNotSameAs(first);
+    }
+
+    @Test
+    public void test_CheckpointAwareClient_ShouldLeaveNoLiveConnectionPool_WhenCheckpointedAndRestored() {
+        // Arrange
+        final List<SdkHttpClient> built = new ArrayList<>();
+        final CheckpointAwareClient<SdkHttpClient> holder = new CheckpointAwareClient<>(() -> {
+            final SdkHttpClient client = ApacheHttpClient.builder().build();
+            built.add(client);
+            return client;
+        });
+
+        // Act
+        holder.beforeCheckpoint(null);
+        holder.afterRestore(null);
+
+        // Assert
+        // A shut down pool refuses to lease a connection before any connect is attempted
+        assertThat(built).hasSize(2);
+        assertThrows(IllegalStateException.class, () -> built.get(0).prepareRequest(request()).call());
+        assertThat(holder.get()).isSameAs(built.get(1));
+        holder.beforeCheckpoint(null);
+        assertThrows(IllegalStateException.class, () -> built.get(1).prepareRequest(request()).call());
+    }
+
+    private static HttpExecuteRequest request() {
+        return HttpExecuteRequest.builder()
+            .request(SdkHttpRequest.builder()
+                .method(SdkHttpMethod.GET)
+                .uri(URI.create("http://localhost:1/"))
+                .build())
+            .build();
+    }
+}
@@ -6,11 +6,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.CreateProjectRequest;
 import software.amazon.awssdk.services.rekognition.model.CreateProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
 import software.amazon.awssdk.services.rekognition.model.ResourceInUseException;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +33,15 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest {
@@ -60,8 +75,8 @@ public class CreateHandlerTest {
             .projectArn(projectArn)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(createProjectResponse)
                 .when(proxy)
@@ -89,9 +104,10 @@ public class CreateHandlerTest {
 
             // Assert
             assertThat(response).isNotNull();
-            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-            assertThat(response.getCallbackContext()).isNull();
-            assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext()).isNotNull();
+            assertThat(response.getCallbackContext().getProjectArn()).isEqualTo(projectArn);
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(2);
             assertThat(response.getResourceModel()).isEqualToComparingFieldByField(expectedModel);
             assertThat(response.getResourceModels()).isNull();
             assertThat(response.getMessage()).isNull();
@@ -99,14 +115,231 @@ public class CreateHandlerTest {
         }
     }
 
+    @Test
+    public void test_CreateHandler_ShouldSendTagsWithCreateProject() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:111111111111:project/" + projectName;
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(CreateProjectResponse.builder().projectArn(projectArn).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel requestModel = ResourceModel.builder()
+                .projectName(projectName)
+                .tags(Collections.singleton(Tag.builder().key("team").value("vision").build()))
+                .build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(requestModel)
+                .desiredResourceTags(tags("team", "stack", "stage", "prod"))
+                .systemTags(tags("aws:cloudformation:stack-name", "stack"))
+                .build();
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(CreateProjectRequest.builder()
+                    .projectName(projectName)
+                    .tags(tags(
+                        "team", "vision",
+                        "stage", "prod",
+                        "aws:cloudformation:stack-name", "stack"))
+                    .build()),
+                ArgumentMatchers.any());
+            verify(proxy, never()).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(TagResourceRequest.class),
+                ArgumentMatchers.any());
+        }
+    }
+
+    @Test
+    public void test_CreateHandler_ShouldSucceed_WhenProjectIsCreated() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:111111111111:project/" + projectName + "/1111111111111";
+        final Instant creationTimestamp = Instant.parse("2021-01-01T00:00:00.000Z");
+
+        final DescribeProjectsResponse describeProjectsResponse = describeProjectsResponse(
+            ProjectDescription.builder()
+                .projectArn(projectArn)
+                .status(ProjectStatus.CREATED)
+                .creationTimestamp(creationTimestamp)
+                .build());
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel expectedModel = ResourceModel.builder()
+                .projectName(projectName)
+                .arn(projectArn)
+                .status("CREATED")
+                .creationTimestamp(creationTimestamp.toString())
+                .build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().projectName(projectName).arn(projectArn).build())
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getCallbackContext()).isNull();
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+            assertThat(response.getResourceModel()).isEqualTo(expectedModel);
+        }
+    }
+
+    @Test
+    public void test_CreateHandler_ShouldStayInProgress_WhenProjectIsCreating() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:111111111111:project/" + projectName + "/1111111111111";
+
+        final DescribeProjectsResponse describeProjectsResponse = describeProjectsResponse(
+            ProjectDescription.builder()
+                .projectArn(projectArn)
+                .status(ProjectStatus.CREATING)
+                .build());
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().projectName(projectName).build())
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+            callbackContext.setStabilizationRetries(1);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext().getStabilizationRetries()).isEqualTo(2);
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(8);
+            assertThat(response.getResourceModel().getArn()).isEqualTo(projectArn);
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(DescribeProjectsRequest.builder().projectNames(projectName).build()),
+                ArgumentMatchers.any());
+        }
+    }
+
+    @Test
+    public void test_CreateHandler_ShouldStayInProgress_WhenProjectIsNotListedYet() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:111111111111:project/" + projectName + "/1111111111111";
+
+        final DescribeProjectsResponse describeProjectsResponse = describeProjectsResponse();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().projectName(projectName).build())
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext().getStabilizationRetries()).isEqualTo(1);
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    public void test_CreateHandler_ShouldFail_WhenProjectEntersUnexpectedStatus() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:111111111111:project/" + projectName + "/1111111111111";
+
+        final DescribeProjectsResponse describeProjectsResponse = describeProjectsResponse(
+            ProjectDescription.builder()
+                .projectArn(projectArn)
+                .status(ProjectStatus.DELETING)
+                .build());
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().projectName(projectName).build())
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+
+            // Act & Assert
+            assertThrows(CfnNotStabilizedException.class,
+                () -> handler.handleRequest(proxy, request, callbackContext, logger));
+        }
+    }
+
     @Test
     public void test_CreateHandler_ShouldFail_WhenProjectWithSameNameExists() {
         // Arrange
         final String projectName = "projectName";
         final ResourceInUseException conflictException = ResourceInUseException.builder().build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doThrow(conflictException)
                 .when(proxy)
@@ -129,6 +362,44 @@ public class CreateHandlerTest {
         }
     }
 
+    @Test
+    public void test_CreateHandler_ShouldFailBeforeAnyCall_WhenModelViolatesSchema() {
+        // Arrange
+        final StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 256; i++) {
+            longName.append('p');
+        }
+
+        final ResourceModel longNameModel = ResourceModel.builder()
+            .projectName(longName.toString())
+            .build();
+        final ResourceModel reservedTagModel = ResourceModel.builder()
+            .projectName("projectName")
+            .tags(Collections.singleton(Tag.builder().key("aws:reserved").value("value").build()))
+            .build();
+        final ResourceModel invalidNameModel = ResourceModel.builder()
+            .projectName("!!a")
+            .build();
+        final ResourceModel invalidCharacterModel = ResourceModel.builder()
+            .projectName("a b/c")
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            // Act & Assert
+            final ResourceModel[] models =
+                new ResourceModel[] {longNameModel, reservedTagModel, invalidNameModel, invalidCharacterModel};
+            for (ResourceModel model : models) {
+                final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(model)
+                    .build();
+                assertThrows(CfnInvalidRequestException.class,
+                    () -> handler.handleRequest(proxy, request, null, logger));
+            }
+            mocked.verifyNoInteractions();
+            verifyNoInteractions(proxy);
+        }
+    }
+
     @Test
     public void test_CreateHandler_ShouldFail_CannotSetReadOnlyPropertyARN() {
         // Arrange
@@ -148,4 +419,18 @@ public class CreateHandlerTest {
         assertThrows(CfnInvalidRequestException.class,
             () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    private static Map<String, String> tags(final String... keysAndValues) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            tags.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return tags;
+    }
+
+    private static DescribeProjectsResponse describeProjectsResponse(final ProjectDescription... projects) {
+        return DescribeProjectsResponse.builder()
+            .projectDescriptions(projects)
+            .build();
+    }
 }
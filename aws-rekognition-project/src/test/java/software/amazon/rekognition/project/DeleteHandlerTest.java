@@ -5,11 +5,21 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
 import software.amazon.awssdk.services.rekognition.model.DeleteProjectResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionRequest;
+import software.amazon.awssdk.services.rekognition.model.DeleteProjectVersionResponse;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsRequest;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectVersionsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectVersionDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectVersionStatus;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,10 +32,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -67,8 +81,8 @@ public class DeleteHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse).doReturn(deleteProjectResponse)
                 .when(proxy)
@@ -89,15 +103,151 @@ public class DeleteHandlerTest {
 
             // Assert
             assertThat(response).isNotNull();
-            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-            assertThat(response.getCallbackContext()).isNull();
-            assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext()).isNotNull();
+            assertThat(response.getCallbackContext().getProjectArn()).isEqualTo(projects.get(0).projectArn());
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(2);
             assertThat(response.getResourceModels()).isNull();
             assertThat(response.getMessage()).isNull();
             assertThat(response.getErrorCode()).isNull();
         }
     }
 
+    @Test
+    public void test_DeleteHandler_ShouldStayInProgress_WhenProjectIsStillDeleting() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        List<ProjectDescription> projects = new ArrayList<>();
+        projects.add(ProjectDescription.builder()
+            .projectArn(projectArn)
+            .status(ProjectStatus.DELETING)
+            .build());
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(projects)
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+            callbackContext.setDeleteProjectRequested(true);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext().getStabilizationRetries()).isEqualTo(1);
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(4);
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(DescribeProjectsRequest.builder().projectNames(projectName).build()),
+                ArgumentMatchers.any());
+        }
+    }
+
+    @Test
+    public void test_DeleteHandler_ShouldSucceed_WhenProjectIsGone() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(new ArrayList<>())
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+            callbackContext.setDeleteProjectRequested(true);
+            callbackContext.setStabilizationRetries(3);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getCallbackContext()).isNull();
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+            assertThat(response.getResourceModel()).isNull();
+        }
+    }
+
+    @Test
+    public void test_DeleteHandler_ShouldFail_WhenProjectDoesNotStabilize() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        List<ProjectDescription> projects = new ArrayList<>();
+        projects.add(ProjectDescription.builder()
+            .projectArn(projectArn)
+            .status(ProjectStatus.DELETING)
+            .build());
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(projects)
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+            callbackContext.setDeleteProjectRequested(true);
+            callbackContext.setStabilizationRetries(40);
+
+            // Act & Assert
+            assertThrows(CfnNotStabilizedException.class, () -> handler.handleRequest(proxy, request, callbackContext, logger));
+        }
+    }
+
     @Test
     public void test_DeleteHandler_ShouldFail_WhenProjectDoesNotExist_And_NoProjectInAccount() {
         // Arrange
@@ -109,8 +259,8 @@ public class DeleteHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse).doThrow(ResourceNotFoundException.class)
                 .when(proxy)
@@ -150,8 +300,8 @@ public class DeleteHandlerTest {
                 .projectDescriptions(projects)
                 .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse)
                 .doThrow(ResourceNotFoundException.class)
@@ -171,4 +321,221 @@ public class DeleteHandlerTest {
             assertThrows(ResourceNotFoundException.class, () -> handler.handleRequest(proxy, request, null, logger));
         }
     }
+
+    @Test
+    public void test_DeleteHandler_ShouldDeleteProjectVersions_WhenCascadeDeleteIsSet() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(ProjectDescription.builder()
+                .projectArn(projectArn)
+                .status(ProjectStatus.CREATED)
+                .build())
+            .build();
+        DescribeProjectVersionsResponse describeProjectVersionsResponse = DescribeProjectVersionsResponse.builder()
+            .projectVersionDescriptions(ProjectVersionDescription.builder()
+                .projectVersionArn(projectArn + "/version/v1/1111111111111")
+                .status(ProjectVersionStatus.TRAINING_COMPLETED)
+                .build())
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doAnswer(invocation -> {
+                final Object awsRequest = invocation.getArgument(0);
+                if (awsRequest instanceof DescribeProjectVersionsRequest) {
+                    return describeProjectVersionsResponse;
+                }
+                if (awsRequest instanceof DeleteProjectVersionRequest) {
+                    return DeleteProjectVersionResponse.builder().build();
+                }
+                return describeProjectsResponse;
+            })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).cascadeDelete(true).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext().getDeletedProjectVersions()).isEqualTo(1);
+            assertThat(response.getCallbackContext().isCascadeDeleteComplete()).isFalse();
+            assertThat(response.getCallbackContext().isDeleteProjectRequested()).isFalse();
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(4);
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteProjectVersionRequest.class),
+                ArgumentMatchers.any());
+            verify(proxy, never()).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteProjectRequest.class),
+                ArgumentMatchers.any());
+        }
+    }
+
+    @Test
+    public void test_DeleteHandler_ShouldFail_WhenCascadeDeleteDoesNotStabilize() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(ProjectDescription.builder()
+                .projectArn(projectArn)
+                .status(ProjectStatus.CREATED)
+                .build())
+            .build();
+        DescribeProjectVersionsResponse describeProjectVersionsResponse = DescribeProjectVersionsResponse.builder()
+            .projectVersionDescriptions(ProjectVersionDescription.builder()
+                .projectVersionArn(projectArn + "/version/v1/1111111111111")
+                .status(ProjectVersionStatus.STOPPING)
+                .build())
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doAnswer(invocation -> {
+                final Object awsRequest = invocation.getArgument(0);
+                if (awsRequest instanceof DescribeProjectVersionsRequest) {
+                    return describeProjectVersionsResponse;
+                }
+                return describeProjectsResponse;
+            })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).cascadeDelete(true).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+            callbackContext.setStabilizationRetries(Utils.MAX_STABILIZATION_RETRIES);
+
+            // Act & Assert
+            assertThrows(CfnNotStabilizedException.class,
+                () -> handler.handleRequest(proxy, request, callbackContext, logger));
+            verify(proxy, never()).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.any(DeleteProjectRequest.class),
+                ArgumentMatchers.any());
+        }
+    }
+
+    @Test
+    public void test_DeleteHandler_ShouldDeleteProject_WhenCascadeDeleteLeftNoResources() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(ProjectDescription.builder()
+                .projectArn(projectArn)
+                .status(ProjectStatus.CREATED)
+                .build())
+            .build();
+        DescribeProjectVersionsResponse describeProjectVersionsResponse = DescribeProjectVersionsResponse.builder()
+            .projectVersionDescriptions(new ArrayList<>())
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doAnswer(invocation -> {
+                final Object awsRequest = invocation.getArgument(0);
+                if (awsRequest instanceof DescribeProjectVersionsRequest) {
+                    return describeProjectVersionsResponse;
+                }
+                if (awsRequest instanceof DeleteProjectRequest) {
+                    return DeleteProjectResponse.builder().build();
+                }
+                return describeProjectsResponse;
+            })
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).cascadeDelete(true).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+            callbackContext.setStabilizationRetries(3);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(response.getCallbackContext().isCascadeDeleteComplete()).isTrue();
+            assertThat(response.getCallbackContext().isDeleteProjectRequested()).isTrue();
+            assertThat(response.getCallbackContext().getStabilizationRetries()).isEqualTo(0);
+            assertThat(response.getCallbackDelaySeconds()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void test_DeleteHandler_ShouldSucceed_WhenProjectIsGoneDuringCascadeDelete() {
+        // Arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(new ArrayList<>())
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder().projectName(projectName).cascadeDelete(true).build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+            final CallbackContext callbackContext = new CallbackContext();
+            callbackContext.setProjectArn(projectArn);
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+            // Assert
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel()).isNull();
+        }
+    }
 }
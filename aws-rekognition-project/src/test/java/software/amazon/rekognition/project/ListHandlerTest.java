@@ -7,6 +7,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.mockStatic;
 import java.util.List;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.time.Instant;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
@@ -59,8 +61,8 @@ public class ListHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse)
                 .when(proxy)
@@ -95,18 +97,24 @@ public class ListHandlerTest {
         String arn1 = "arn:aws:rekognition:us-east-1:000000000000:project/Project1/1111111111111";
         String arn2 = "arn:aws:rekognition:us-east-1:000000000000:project/Project2/2222222222222";
 
+        final Instant creationTimestamp = Instant.parse("2021-01-01T00:00:00.000Z");
+
         projects.add(ProjectDescription.builder()
             .projectArn(arn1)
+            .status(ProjectStatus.CREATED)
+            .creationTimestamp(creationTimestamp)
             .build());
         projects.add(ProjectDescription.builder()
             .projectArn(arn2)
+            .status(ProjectStatus.CREATING)
+            .creationTimestamp(creationTimestamp)
             .build());
         DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse)
                 .when(proxy)
@@ -118,11 +126,15 @@ public class ListHandlerTest {
             final ResourceModel model1 = ResourceModel.builder()
                 .projectName("Project1")
                 .arn(arn1)
+                .status("CREATED")
+                .creationTimestamp(creationTimestamp.toString())
                 .build();
 
             final ResourceModel model2 = ResourceModel.builder()
                 .projectName("Project2")
                 .arn(arn2)
+                .status("CREATING")
+                .creationTimestamp(creationTimestamp.toString())
                 .build();
 
             final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -0,0 +1,87 @@
+package software.amazon.rekognition.project;
+
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class PrimerTest {
+
+    private HttpServer endpoint;
+    private final List<String> receivedPaths = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() throws IOException {
+        endpoint = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        endpoint.createContext("/", exchange -> {
+            receivedPaths.add(exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        endpoint.start();
+        System.setProperty("aws.region", "us-east-1");
+        System.setProperty("aws.endpointUrlRekognition", "http://localhost:" + endpoint.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("aws.region");
+        System.clearProperty("aws.endpointUrlRekognition");
+        System.clearProperty(Primer.PRIME_PROPERTY);
+        System.clearProperty(Primer.PRIME_CONNECTION_PROPERTY);
+        endpoint.stop(0);
+    }
+
+    @Test
+    void Prime_ShouldMarshalEveryRequestWithoutSendingIt() throws IOException {
+        // act
+        final int marshalled = Primer.prime(false);
+
+        // assert
+        assertEquals(10, marshalled);
+        assertTrue(receivedPaths.isEmpty());
+    }
+
+    @Test
+    void Prime_ShouldSendOneRequestToEndpoint_WhenConnecting() throws IOException {
+        // act
+        Primer.prime(true);
+
+        // assert
+        assertEquals(Collections.singletonList("/"), receivedPaths);
+    }
+
+    @Test
+    void PrimeOnInit_ShouldDoNothing_ByDefault() {
+        // act
+        Primer.primeOnInit();
+
+        // assert
+        assertTrue(receivedPaths.isEmpty());
+    }
+
+    @Test
+    void PrimeOnInit_ShouldPrimeOncePerJvm() {
+        // arrange
+        System.setProperty(Primer.PRIME_PROPERTY, "true");
+        System.setProperty(Primer.PRIME_CONNECTION_PROPERTY, "true");
+
+        // act
+        Primer.primeOnInit();
+        Primer.primeOnInit();
+
+        // assert
+        assertEquals(Collections.singletonList("/"), receivedPaths);
+    }
+}
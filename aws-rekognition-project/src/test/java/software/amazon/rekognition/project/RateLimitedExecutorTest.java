@@ -0,0 +1,63 @@
+package software.amazon.rekognition.project;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rekognition.model.ThrottlingException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimitedExecutorTest {
+
+    @Test
+    public void test_RunAll_ShouldRunEveryRequest() {
+        // Arrange
+        final AtomicInteger calls = new AtomicInteger();
+        final List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(() -> {
+                calls.incrementAndGet();
+                return null;
+            });
+        }
+
+        // Act
+        new RateLimitedExecutor(3, 1000).runAll(requests);
+
+        // Assert
+        assertThat(calls).hasValue(10);
+    }
+
+    @Test
+    public void test_RunAll_ShouldRethrowRequestException_WhenRequestFails() {
+        // Arrange
+        final List<Callable<Void>> requests = Collections.singletonList(() -> {
+            throw ThrottlingException.builder().message("RekognitionException").build();
+        });
+
+        // Act & Assert
+        assertThrows(ThrottlingException.class, () -> new RateLimitedExecutor(1, 1000).runAll(requests));
+    }
+
+    @Test
+    public void test_AcquirePermit_ShouldSpaceRequestStarts() throws InterruptedException {
+        // Arrange
+        final RateLimitedExecutor executor = new RateLimitedExecutor(1, 20);
+
+        // Act
+        final long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            executor.acquirePermit();
+        }
+
+        // Assert
+        // The first permit is immediate, the next two wait 50ms each
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+}
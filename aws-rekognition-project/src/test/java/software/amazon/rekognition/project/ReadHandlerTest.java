@@ -9,6 +9,7 @@ import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,9 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -69,10 +73,10 @@ public class ReadHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
-            doReturn(describeProjectsResponse)
+            doReturn(describeProjectsResponse, ListTagsForResourceResponse.builder().build())
                 .when(proxy)
                 .injectCredentialsAndInvokeV2(
                     ArgumentMatchers.any(),
@@ -96,13 +100,66 @@ public class ReadHandlerTest {
             assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
             assertThat(response.getCallbackContext()).isNull();
             assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-            assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+            assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState().toBuilder()
+                .tags(Collections.emptySet())
+                .build());
             assertThat(response.getResourceModels()).isNull();
             assertThat(response.getMessage()).isNull();
             assertThat(response.getErrorCode()).isNull();
         }
     }
 
+    @Test
+    public void test_ReadHandler_ShouldReturnDeclaredTagsOnly_WhenProjectHasSystemAndStackTags() {
+        // Arrange
+        final String projectName = "Project1";
+        final String arn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(ProjectDescription.builder()
+                .projectArn(arn)
+                .build())
+            .build();
+        Map<String, String> attachedTags = new HashMap<>();
+        attachedTags.put("aws:cloudformation:stack-name", "stack");
+        attachedTags.put("SharedTag", "same-value");
+        attachedTags.put("StackTag", "resource-value");
+        Map<String, String> stackTags = new HashMap<>();
+        stackTags.put("SharedTag", "same-value");
+        stackTags.put("StackTag", "stack-value");
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse, ListTagsForResourceResponse.builder().tags(attachedTags).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder()
+                .arn(arn)
+                .projectName(projectName)
+                .tags(TagHelper.convertToSet(Collections.singletonMap("SharedTag", "same-value")))
+                .build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(stackTags)
+                .build();
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+            // Assert
+            // SharedTag is declared by the project, StackTag only by the stack
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel()).isEqualTo(model);
+        }
+    }
+
     @Test
     public void test_ReadHandler_ShouldFail_WhenProjectDoesNotExist_And_NoProjectInAccount() {
         // Arrange
@@ -113,8 +170,8 @@ public class ReadHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse).doThrow(ResourceNotFoundException.class)
                 .when(proxy)
@@ -152,8 +209,8 @@ public class ReadHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
             doReturn(describeProjectsResponse)
                 .doThrow(ResourceNotFoundException.class)
                 .when(proxy)
@@ -8,7 +8,13 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.exceptions.ResourceNotFoundException;
 import software.amazon.awssdk.services.rekognition.RekognitionClient;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
+import software.amazon.awssdk.services.rekognition.model.DescribeProjectsRequest;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.TagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.TagResourceResponse;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceRequest;
+import software.amazon.awssdk.services.rekognition.model.UntagResourceResponse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,9 +31,17 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -69,10 +83,10 @@ public class UpdateHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
-            doReturn(describeProjectsResponse)
+            doReturn(describeProjectsResponse, ListTagsForResourceResponse.builder().build())
                 .when(proxy)
                 .injectCredentialsAndInvokeV2(
                     ArgumentMatchers.any(),
@@ -96,13 +110,162 @@ public class UpdateHandlerTest {
             assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
             assertThat(response.getCallbackContext()).isNull();
             assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-            assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+            assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState().toBuilder()
+                .tags(Collections.emptySet())
+                .build());
             assertThat(response.getResourceModels()).isNull();
             assertThat(response.getMessage()).isNull();
             assertThat(response.getErrorCode()).isNull();
         }
     }
 
+    @Test
+    public void test_UpdateHandler_ShouldApplyOnlyTheTagDiff() {
+        // Arrange
+        final String projectName = "Project1";
+        final String arn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(ProjectDescription.builder().projectArn(arn).build())
+            .build();
+
+        final Map<String, String> updatedTags = new HashMap<>();
+        updatedTags.put("team", "vision");
+        updatedTags.put("stage", "prod");
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(
+                UntagResourceResponse.builder().build(),
+                TagResourceResponse.builder().build(),
+                describeProjectsResponse,
+                ListTagsForResourceResponse.builder().tags(updatedTags).build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel previous = ResourceModel.builder()
+                .arn(arn)
+                .projectName(projectName)
+                .tags(new HashSet<>(Arrays.asList(
+                    Tag.builder().key("team").value("vision").build(),
+                    Tag.builder().key("owner").value("alice").build())))
+                .build();
+
+            final ResourceModel desired = ResourceModel.builder()
+                .arn(arn)
+                .projectName(projectName)
+                .tags(Collections.singleton(Tag.builder().key("team").value("vision").build()))
+                .build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previous)
+                .desiredResourceState(desired)
+                .previousResourceTags(Collections.singletonMap("stage", "dev"))
+                .desiredResourceTags(Collections.singletonMap("stage", "prod"))
+                .build();
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            // The stack tag is attached but not part of the project's Tags
+            assertThat(response.getResourceModel().getTags())
+                .containsExactly(Tag.builder().key("team").value("vision").build());
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(UntagResourceRequest.builder()
+                    .resourceArn(arn)
+                    .tagKeys("owner")
+                    .build()),
+                ArgumentMatchers.any());
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(TagResourceRequest.builder()
+                    .resourceArn(arn)
+                    .tags(Collections.singletonMap("stage", "prod"))
+                    .build()),
+                ArgumentMatchers.any());
+        }
+    }
+
+    @Test
+    public void test_UpdateHandler_ShouldSkipServiceCalls_WhenNothingChanged() {
+        // Arrange
+        final String projectName = "Project1";
+        final String arn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        final ResourceModel previous = ResourceModel.builder()
+            .arn(arn)
+            .projectName(projectName)
+            .status("CREATED")
+            .build();
+
+        final ResourceModel desired = ResourceModel.builder()
+            .projectName(projectName)
+            .cascadeDelete(true)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previous)
+            .desiredResourceState(desired)
+            .build();
+
+        // Act
+        final ProgressEvent<ResourceModel, CallbackContext> response
+            = handler.handleRequest(proxy, request, null, logger);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(previous);
+        verifyNoInteractions(proxy);
+    }
+
+    @Test
+    public void test_UpdateHandler_ShouldProbeByName_WhenNothingChangedAndArnIsMissing() {
+        // Arrange
+        final String projectName = "Project1";
+        final String arn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+
+        DescribeProjectsResponse describeProjectsResponse = DescribeProjectsResponse.builder()
+            .projectDescriptions(ProjectDescription.builder().projectArn(arn).build())
+            .build();
+
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
+
+            doReturn(describeProjectsResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                    ArgumentMatchers.any(),
+                    ArgumentMatchers.any()
+                );
+
+            final ResourceModel model = ResourceModel.builder()
+                .projectName(projectName)
+                .build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(model)
+                .desiredResourceState(model)
+                .build();
+
+            // Act
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getArn()).isEqualTo(arn);
+            verify(proxy, times(1)).injectCredentialsAndInvokeV2(
+                ArgumentMatchers.eq(DescribeProjectsRequest.builder().projectNames(projectName).build()),
+                ArgumentMatchers.any());
+        }
+    }
+
     @Test
     public void test_UpdateHandler_ShouldFail_WhenProjectDoesNotExist_And_NoProjectInAccount() {
         // Arrange
@@ -113,8 +276,8 @@ public class UpdateHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse).doThrow(ResourceNotFoundException.class)
                 .when(proxy)
@@ -152,8 +315,8 @@ public class UpdateHandlerTest {
             .projectDescriptions(projects)
             .build();
 
-        try (MockedStatic<RekognitionClient> mocked = mockStatic(RekognitionClient.class)) {
-            mocked.when(RekognitionClient::create).thenReturn(rekognitionClient);
+        try (MockedStatic<ClientBuilder> mocked = mockStatic(ClientBuilder.class)) {
+            mocked.when(ClientBuilder::rekognitionClient).thenReturn(rekognitionClient);
 
             doReturn(describeProjectsResponse)
                 .doThrow(ResourceNotFoundException.class)
@@ -3,12 +3,16 @@ package software.amazon.rekognition.project;
 import software.amazon.awssdk.arns.Arn;
 import software.amazon.awssdk.services.rekognition.model.ProjectDescription;
 import software.amazon.awssdk.services.rekognition.model.DescribeProjectsResponse;
+import software.amazon.awssdk.services.rekognition.model.ProjectStatus;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Optional;
@@ -28,6 +32,60 @@ public class UtilsTest {
         assertEquals(projectName, expectedProjectName);
     }
 
+    @Test
+    void GetProjectNameFromArn_ShouldSucceed_WhenArnHasNoVersionSuffix() {
+        // arrange
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/projectName";
+
+        // act
+        String projectName = Utils.getProjectNameFromArn(projectArn);
+
+        // assert
+        assertEquals("projectName", projectName);
+    }
+
+    @Test
+    void GetProjectNameFromArn_ShouldFail_WhenArnIsMalformed() {
+        assertThrows(IllegalArgumentException.class, () -> Utils.getProjectNameFromArn("arn:aws:rekognition:us-east-1"));
+        assertThrows(IllegalArgumentException.class,
+            () -> Utils.getProjectNameFromArn("arn:aws:rekognition:us-east-1:000000000000:project"));
+    }
+
+    @Test
+    void isProjectArnForName_ShouldOnlyMatchWholeName() {
+        // arrange
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/Project1/1111111111111";
+
+        // act & assert
+        assertTrue(Utils.isProjectArnForName(projectArn, "Project1"));
+        assertFalse(Utils.isProjectArnForName(projectArn, "Project"));
+        assertFalse(Utils.isProjectArnForName(projectArn, "Project10"));
+        assertFalse(Utils.isProjectArnForName(projectArn, "project1"));
+        assertFalse(Utils.isProjectArnForName(projectArn, null));
+    }
+
+    @Test
+    void translateFromProjectDescription_ShouldCopyStatusAndCreationTimestamp() {
+        // arrange
+        final String projectName = "projectName";
+        final String projectArn = "arn:aws:rekognition:us-east-1:000000000000:project/" + projectName + "/1111111111111";
+        final Instant creationTimestamp = Instant.parse("2021-01-01T00:00:00.000Z");
+        final ProjectDescription projectDescription = ProjectDescription.builder()
+            .projectArn(projectArn)
+            .status(ProjectStatus.CREATED)
+            .creationTimestamp(creationTimestamp)
+            .build();
+
+        // act
+        ResourceModel model = Utils.translateFromProjectDescription(projectDescription);
+
+        // assert
+        assertEquals(projectName, model.getProjectName());
+        assertEquals(projectArn, model.getArn());
+        assertEquals("CREATED", model.getStatus());
+        assertEquals(creationTimestamp.toString(), model.getCreationTimestamp());
+    }
+
     @Test
     void findProjectByNameInResponse_ShouldSucceed_WhenProjectExists() {
         // arrange